@@ -0,0 +1,79 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * latency recorder for benchmark
+ */
+class BenchmarkLatency {
+
+    private long[] samples = new long[1024];
+    private int size = 0;
+
+    public synchronized void add(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void addAll(BenchmarkLatency other) {
+        long[] otherSamples;
+        synchronized (other) {
+            otherSamples = Arrays.copyOf(other.samples, other.size);
+        }
+        for (long nanos : otherSamples) {
+            add(nanos);
+        }
+    }
+
+    public synchronized int count() {
+        return this.size;
+    }
+
+    public synchronized long totalNanos() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += samples[i];
+        }
+        return total;
+    }
+
+    public synchronized double averageMillis() {
+        if (size == 0) {
+            return 0;
+        }
+        return toMillis(totalNanos() / size);
+    }
+
+    /**
+     * get percentile
+     *
+     * @param percent 0-100
+     * @return latency [ms]
+     */
+    public synchronized double percentileMillis(double percent) {
+        if (size == 0) {
+            return 0;
+        }
+        var sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percent / 100 * size) - 1;
+        index = Math.max(0, Math.min(index, size - 1));
+        return toMillis(sorted[index]);
+    }
+
+    public double maxMillis() {
+        return percentileMillis(100);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("count=%d, avg=%.3fms, p50=%.3fms, p99=%.3fms, max=%.3fms", size, averageMillis(), percentileMillis(50), percentileMillis(99), maxMillis());
+    }
+}
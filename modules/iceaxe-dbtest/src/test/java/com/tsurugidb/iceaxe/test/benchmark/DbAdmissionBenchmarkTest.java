@@ -0,0 +1,110 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.test.util.SessionAdmissionController;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * throughput versus concurrency benchmark with and without {@link SessionAdmissionController}
+ *
+ * <p>
+ * {@code admission.thread} threads execute {@code admission.query} queries each on one shared session. without the controller, requests beyond the response slots fail (reported as error). with
+ * the controller ({@code admission.permits}), they wait instead.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbAdmissionBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("admission.size", 100);
+    private static final int QUERY_SIZE = getBenchmarkProperty("admission.query", 20); // per thread
+    private static final int[] THREAD_SIZE = getBenchmarkPropertyList("admission.thread", 16, 64, 256, 512);
+    private static final int PERMITS = getBenchmarkProperty("admission.permits", SessionAdmissionController.DEFAULT_PERMITS);
+
+    private static final String TABLE = "bench_admission";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbAdmissionBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        dropTable(TABLE);
+        executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, TABLE), TABLE);
+        insertBulk(TABLE, SIZE);
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(TABLE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void admission(boolean admission) throws Exception {
+        for (int threadSize : THREAD_SIZE) {
+            execute(admission, threadSize);
+        }
+    }
+
+    private void execute(boolean admission, int threadSize) throws Exception {
+        try (var session = DbTestConnector.createSession("admission")) {
+            var controller = admission ? new SessionAdmissionController(session, PERMITS) : null;
+            var success = new AtomicLong();
+            var error = new AtomicLong();
+            var latency = new BenchmarkLatency();
+
+            try (var ps = session.createQuery(SELECT_SQL.replace(TEST, TABLE), SELECT_MAPPING)) {
+                var taskList = new ArrayList<Callable<Void>>(threadSize);
+                for (int i = 0; i < threadSize; i++) {
+                    taskList.add(() -> {
+                        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("admission")));
+                        for (int j = 0; j < QUERY_SIZE; j++) {
+                            long start = System.nanoTime();
+                            try {
+                                if (controller != null) {
+                                    controller.execute(s -> tm.executeAndGetList(ps));
+                                } else {
+                                    tm.executeAndGetList(ps);
+                                }
+                                latency.add(System.nanoTime() - start);
+                                success.incrementAndGet();
+                            } catch (IOException e) {
+                                LOG.debug("query error. thread={}", threadSize, e);
+                                error.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    });
+                }
+
+                long start = System.nanoTime();
+                executeConcurrently(taskList);
+                long elapsed = System.nanoTime() - start;
+
+                String wait = (controller != null) ? String.format(", maxWait=%.3f ms", toMillis(controller.getMaxWaitNanos())) : "";
+                logBenchmark("admission." + (admission ? "on" : "off"), "thread=%d: %.1f queries/s, success=%d, error=%d, latency(%s)%s", //
+                        threadSize, perSecond(success.get(), elapsed), success.get(), error.get(), latency, wait);
+                if (controller != null) {
+                    assertEquals(0, error.get(), () -> "error occurred with admission control. timeout=" + controller.getTimeoutCount());
+                }
+            }
+        }
+    }
+}
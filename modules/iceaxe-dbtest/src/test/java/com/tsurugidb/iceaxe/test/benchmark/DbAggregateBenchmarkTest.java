@@ -0,0 +1,128 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * aggregation and DISTINCT benchmark with group cardinality sweep
+ *
+ * <p>
+ * the table has one group column per cardinality of {@code aggregate.groups} (g0 = pk % groups[0], ...). each query is marked by {@link #serverLog(org.slf4j.Logger, String)}.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbAggregateBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("aggregate.size", 1_000_000);
+    private static final int[] GROUPS = getBenchmarkPropertyList("aggregate.groups", 1, 100, 10_000, 1_000_000);
+    private static final int REPEAT = getBenchmarkProperty("aggregate.repeat", 3);
+
+    private static final String TABLE = "bench_aggregate";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbAggregateBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        createTable();
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(TABLE);
+    }
+
+    private static void createTable() throws IOException, InterruptedException {
+        dropTable(TABLE);
+        var sb = new StringBuilder("create table " + TABLE + "(pk int primary key, v bigint");
+        var variables = TgBindVariables.of().addInt("pk").addLong("v");
+        for (int i = 0; i < GROUPS.length; i++) {
+            sb.append(", g").append(i).append(" int");
+            variables.addInt("g" + i);
+        }
+        sb.append(")");
+        executeDdl(getSession(), sb.toString(), TABLE);
+
+        var sql = "insert or replace into " + TABLE + " values(" + variables.getSqlNames() + ")";
+        insertBulk(sql, TgParameterMapping.of(variables), SIZE, pk -> {
+            var parameter = TgBindParameters.of().addInt("pk", pk).addLong("v", pk % 1000);
+            for (int i = 0; i < GROUPS.length; i++) {
+                parameter.addInt("g" + i, pk % GROUPS[i]);
+            }
+            return parameter;
+        });
+    }
+
+    @Test
+    void countAll() throws Exception {
+        var latency = new BenchmarkLatency();
+        for (int i = 0; i < REPEAT; i++) {
+            long start = System.nanoTime();
+            int count = selectCountFrom(TABLE);
+            latency.add(System.nanoTime() - start);
+            assertEquals(SIZE, count);
+        }
+        logBenchmark("aggregate.countAll", "size=%d: %s", SIZE, latency);
+    }
+
+    @Test
+    void groupBy() throws Exception {
+        for (int i = 0; i < GROUPS.length; i++) {
+            String g = "g" + i;
+            execute("groupBy", GROUPS[i], "select " + g + ", count(*), sum(v), min(v), max(v), avg(v) from " + TABLE + " group by " + g);
+        }
+    }
+
+    @Test
+    void groupByEach() throws Exception {
+        int i = GROUPS.length - 1;
+        String g = "g" + i;
+        for (var function : new String[] { "count(*)", "count(v)", "sum(v)", "min(v)", "max(v)", "avg(v)" }) {
+            execute("groupBy." + function, GROUPS[i], "select " + g + ", " + function + " from " + TABLE + " group by " + g);
+        }
+    }
+
+    @Test
+    void distinct() throws Exception {
+        for (int i = 0; i < GROUPS.length; i++) {
+            execute("distinct", GROUPS[i], "select distinct g" + i + " from " + TABLE);
+        }
+    }
+
+    private void execute(String name, int groups, String sql) throws Exception {
+        int expectedRows = Math.min(groups, SIZE);
+
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("aggregate." + name)));
+        try (var ps = session.createQuery(sql)) {
+            var latency = new BenchmarkLatency();
+            for (int i = 0; i < REPEAT; i++) {
+                serverLog(LOG, "aggregate start " + name + " groups=" + groups);
+                var count = new AtomicLong();
+                long start = System.nanoTime();
+                tm.executeAndForEach(ps, record -> count.incrementAndGet());
+                latency.add(System.nanoTime() - start);
+                serverLog(LOG, "aggregate end " + name + " groups=" + groups);
+                assertEquals(expectedRows, count.get(), () -> sql);
+            }
+            logBenchmark("aggregate." + name, "size=%d, groups=%d: %s, %.1f input rows/s", SIZE, groups, latency, perSecond((long) SIZE * latency.count(), latency.totalNanos()));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+
+import com.tsurugidb.iceaxe.sql.explain.TgStatementMetadata;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.TestEntity;
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanGraphException;
+
+/**
+ * benchmark tester
+ *
+ * <p>
+ * benchmarks are executed only when {@code -Pdbtest.benchmark=true} is specified. sizes are changed by {@code -Pdbtest.benchmark.<name>=<value>}.
+ * </p>
+ */
+public abstract class DbBenchmarkTester extends DbTestTableTester {
+
+    /** system property to enable benchmark */
+    public static final String BENCHMARK_PROPERTY = "tsurugi.dbtest.benchmark";
+
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    // property
+
+    protected static int getBenchmarkProperty(String name, int defaultValue) {
+        return getSystemProperty(BENCHMARK_PROPERTY + "." + name, defaultValue);
+    }
+
+    protected static int[] getBenchmarkPropertyList(String name, int... defaultValue) {
+        String property = getSystemProperty(BENCHMARK_PROPERTY + "." + name, (String) null);
+        if (property == null) {
+            return defaultValue;
+        }
+        return Arrays.stream(property.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+
+    // utility
+
+    /** upsert of 'test' table (bind variables of {@link #INSERT_MAPPING}) */
+    protected static final String UPSERT_SQL = INSERT_SQL.replace("insert into", "insert or replace into");
+
+    protected static void insertTestTableBulk(int size) throws IOException, InterruptedException {
+        insertBulk(UPSERT_SQL, INSERT_MAPPING, size, DbTestTableTester::createTestEntity);
+    }
+
+    protected static void insertBulk(String tableName, int size) throws IOException, InterruptedException {
+        insertBulk(UPSERT_SQL.replace(TEST, tableName), INSERT_MAPPING, size, DbTestTableTester::createTestEntity);
+    }
+
+    /**
+     * insert many records (one transaction per {@value #BULK_CHUNK_SIZE} records)
+     */
+    protected static <P> void insertBulk(String sql, TgParameterMapping<P> parameterMapping, int size, IntFunction<P> parameterGenerator) throws IOException, InterruptedException {
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session, "insertBulk", 3);
+        try (var ps = session.createStatement(sql, parameterMapping)) {
+            for (int start = 0; start < size; start += BULK_CHUNK_SIZE) {
+                int s = start;
+                int e = Math.min(start + BULK_CHUNK_SIZE, size);
+                tm.execute(transaction -> {
+                    var list = new ArrayList<TsurugiStatementResult>(e - s);
+                    for (int i = s; i < e; i++) {
+                        var parameter = parameterGenerator.apply(i);
+                        var result = transaction.executeStatement(ps, parameter);
+                        list.add(result);
+                    }
+                    for (var result : list) {
+                        result.close();
+                    }
+                    return;
+                });
+            }
+        }
+    }
+
+    /**
+     * write a mark to the server log. server memory is not available from the client, so the mark is used to correlate a benchmark step with the server-side monitor.
+     */
+    protected static void serverLog(Logger log, String message) {
+        serverLog(log, null, message);
+    }
+
+    protected static TestEntity createTestEntity(int foo, long bar) {
+        return new TestEntity(foo, bar, Integer.toString(foo));
+    }
+
+    /**
+     * execute tasks in parallel and wait for all of them
+     */
+    protected static void executeConcurrently(List<? extends Callable<?>> taskList) throws Exception {
+        if (taskList.isEmpty()) {
+            return;
+        }
+
+        var service = Executors.newFixedThreadPool(taskList.size());
+        try {
+            var futureList = new ArrayList<Future<?>>(taskList.size());
+            for (var task : taskList) {
+                futureList.add(service.submit(task));
+            }
+
+            Exception occurred = null;
+            for (var future : futureList) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    if (occurred == null) {
+                        occurred = e;
+                    } else {
+                        occurred.addSuppressed(e);
+                    }
+                }
+            }
+            if (occurred != null) {
+                throw occurred;
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    // explain
+
+    protected static PlanGraph getPlanGraph(TgStatementMetadata metadata) {
+        try {
+            return metadata.getLowPlanGraph();
+        } catch (PlanGraphException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * get plan shape (kind and attributes of each node, sorted)
+     */
+    protected static String getPlanShape(TgStatementMetadata metadata) {
+        return getPlanGraph(metadata).getNodes().stream() //
+                .map(node -> node.getKind() + new TreeMap<>(node.getAttributes())) //
+                .sorted() //
+                .collect(Collectors.joining(", "));
+    }
+
+    // measurement
+
+    protected static double perSecond(long count, long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return count * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    protected static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    protected void logBenchmark(String name, String format, Object... args) {
+        LOG.info("[benchmark] {} {}", name, String.format(format, args));
+    }
+}
@@ -0,0 +1,80 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.util.ReusableBindParameters;
+
+/**
+ * bind parameter allocation benchmark ({@link TgBindParameters} per execution vs {@link ReusableBindParameters})
+ *
+ * <p>
+ * both sides are measured through the execution (including the conversion to the low parameters). allocation is measured by {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} of the executing thread (allocation in the receiver thread of the session is not included).
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbBindParameterBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("bindParameter.record", 10000);
+    private static final int LOOKUP = getBenchmarkProperty("bindParameter.lookup", 100000);
+    private static final int ROUND = getBenchmarkProperty("bindParameter.round", 5);
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @FunctionalInterface
+    private interface MeasureLoop {
+        void run() throws Exception;
+    }
+
+    @Test
+    void lookup() throws Exception {
+        dropTestTable();
+        createTestTable();
+        insertTestTableBulk(SIZE);
+
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session, "bindParameter", 3);
+
+        var cond = TgBindVariable.ofInt("foo");
+        var reusable = ReusableBindParameters.of().addInt("foo");
+        int fooIndex = reusable.indexOf("foo");
+        try (var ps = session.createQuery(SELECT_SQL + " where foo=" + cond, TgParameterMapping.of(cond), SELECT_MAPPING); //
+                var reusablePs = session.createQuery(SELECT_SQL + " where foo=" + reusable.getSqlNames(), reusable.getParameterMapping(), SELECT_MAPPING)) {
+            for (int round = 0; round < ROUND; round++) {
+                var perCall = measure(() -> tm.execute(transaction -> {
+                    for (int i = 0; i < LOOKUP; i++) {
+                        var parameter = TgBindParameters.of(cond.bind(i % SIZE));
+                        assertEquals(i % SIZE, transaction.executeAndFindRecord(ps, parameter).get().getFoo());
+                    }
+                }));
+                var reuse = measure(() -> tm.execute(transaction -> {
+                    for (int i = 0; i < LOOKUP; i++) {
+                        reusable.set(fooIndex, i % SIZE);
+                        assertEquals(i % SIZE, transaction.executeAndFindRecord(reusablePs, reusable).get().getFoo());
+                    }
+                }));
+
+                if (round > 0) {
+                    logBenchmark("bindParameter", "round=%d: TgBindParameters %s, ReusableBindParameters %s", round, perCall, reuse);
+                }
+            }
+        }
+    }
+
+    private static String measure(MeasureLoop loop) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long startBytes = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        loop.run();
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREAD_BEAN.getThreadAllocatedBytes(threadId) - startBytes;
+        return String.format("%.1f ns/execution, %.1f bytes/execution", (double) elapsed / LOOKUP, (double) bytes / LOOKUP);
+    }
+}
@@ -0,0 +1,143 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.CounterType;
+
+/**
+ * set-based UPDATE / DELETE benchmark with write-set size sweep
+ *
+ * <p>
+ * {@code bulkUpdate.rows} rows are updated (or deleted) by one statement in one transaction, and by the same range split into {@code bulkUpdate.chunk} rows per transaction. the statement is
+ * prepared once with the range as bind variables. each transaction is measured from begin to commit, and execute and commit are also measured separately. the counters of TgResultCount are
+ * summed over the transactions.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbBulkUpdateBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int[] ROWS = getBenchmarkPropertyList("bulkUpdate.rows", 1, 1_000, 100_000, 1_000_000);
+    private static final int[] CHUNK = getBenchmarkPropertyList("bulkUpdate.chunk", 1_000, 10_000, 100_000);
+
+    private static final String TABLE = "bench_bulk_update";
+
+    private static final TgBindVariable<Integer> START = TgBindVariable.ofInt("start_foo");
+    private static final TgBindVariable<Integer> END = TgBindVariable.ofInt("end_foo");
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(TABLE);
+    }
+
+    private static void createTable(int size) throws IOException, InterruptedException {
+        dropTable(TABLE);
+        executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, TABLE), TABLE);
+        insertBulk(TABLE, size);
+    }
+
+    private static TgTxOption toTxOption(String s, String type) {
+        switch (s) {
+        case "OCC":
+            return TgTxOption.ofOCC().label("bulkUpdate." + type);
+        case "LTX":
+            return TgTxOption.ofLTX(TABLE).label("bulkUpdate." + type);
+        default:
+            throw new AssertionError(s);
+        }
+    }
+
+    private static String toSql(String type) {
+        String where = " where " + START + " <= foo and foo < " + END;
+        switch (type) {
+        case "update":
+            return "update " + TABLE + " set bar = bar + 1, zzz = 'updated'" + where;
+        case "delete":
+            return "delete from " + TABLE + where;
+        default:
+            throw new AssertionError(type);
+        }
+    }
+
+    private static class Result {
+        BenchmarkLatency transaction = new BenchmarkLatency();
+        long executeNanos;
+        BenchmarkLatency commit = new BenchmarkLatency();
+        Map<CounterType, Long> counter = new EnumMap<>(CounterType.class);
+
+        long totalCount() {
+            return counter.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "update", "delete" })
+    void bulk(String type) throws Exception {
+        for (var s : new String[] { "OCC", "LTX" }) {
+            var txOption = toTxOption(s, type);
+            for (int rows : ROWS) {
+                createTable(rows);
+                var single = execute(txOption, type, rows, rows);
+                log(type, s, rows, rows, single);
+
+                for (int chunk : CHUNK) {
+                    if (chunk >= rows) {
+                        continue;
+                    }
+                    createTable(rows);
+                    var chunked = execute(txOption, type, rows, chunk);
+                    log(type, s, rows, chunk, chunked);
+                }
+            }
+        }
+    }
+
+    private Result execute(TgTxOption txOption, String type, int rows, int chunk) throws Exception {
+        var session = getSession();
+        var result = new Result();
+        try (var ps = session.createStatement(toSql(type), TgParameterMapping.of(START, END))) {
+            for (int start = 0; start < rows; start += chunk) {
+                int end = Math.min(start + chunk, rows);
+                var parameter = TgBindParameters.of(START.bind(start), END.bind(end));
+                long b = System.nanoTime();
+                try (var transaction = session.createTransaction(txOption)) {
+                    long s = System.nanoTime();
+                    var count = transaction.executeAndGetCountDetail(ps, parameter);
+                    long c = System.nanoTime();
+                    transaction.commit(TgCommitType.DEFAULT);
+                    long e = System.nanoTime();
+
+                    result.transaction.add(e - b);
+                    result.executeNanos += c - s;
+                    result.commit.add(e - c);
+                    count.getLowCounterMap().forEach((key, value) -> result.counter.merge(key, value, Long::sum));
+                }
+            }
+        }
+
+        assertEquals(rows, result.totalCount());
+        if (type.equals("delete")) {
+            assertEquals(0, selectCountFrom(TABLE));
+        }
+        return result;
+    }
+
+    private void log(String type, String s, int rows, int chunk, Result result) {
+        long totalNanos = result.transaction.totalNanos();
+        logBenchmark("bulkUpdate." + type + "." + s, "rows=%d, chunk=%d: total %.3f ms (%.1f rows/s), transaction(%s), execute %.3f ms, commit(%s), counter=%s", //
+                rows, chunk, toMillis(totalNanos), perSecond(rows, totalNanos), result.transaction, toMillis(result.executeNanos), result.commit, result.counter);
+    }
+}
@@ -0,0 +1,123 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.channel.common.connection.FileCredential;
+import com.tsurugidb.tsubakuro.channel.common.connection.RememberMeCredential;
+import com.tsurugidb.tsubakuro.channel.common.connection.UsernamePasswordCredential;
+
+/**
+ * session establishment latency benchmark per credential type
+ *
+ * <p>
+ * connect is createSession and getLowSession (the connection is established lazily). NEW creates a TsurugiConnector for each session, CACHED reuses one TsurugiConnector. endpoints are given by
+ * {@code -Dtsurugi.dbtest.benchmark.connect.endpoints=tcp://...,ipc:...} (default: dbtest endpoint). {@code connect.client} threads connect at the same time, each {@code connect.session} times.
+ * credential types that are not configured (user, authToken, credentials) are skipped.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbConnectBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SESSION_SIZE = getBenchmarkProperty("connect.session", 50); // per client
+    private static final int[] CLIENT_SIZE = getBenchmarkPropertyList("connect.client", 1, 8, 32);
+
+    private static final String NEW = "NEW";
+    private static final String CACHED = "CACHED";
+
+    private static List<URI> getEndpointList() {
+        String property = getSystemProperty(BENCHMARK_PROPERTY + ".connect.endpoints", (String) null);
+        if (property == null) {
+            return List.of(DbTestConnector.getEndPoint());
+        }
+        return Arrays.stream(property.split(",")).map(String::trim).map(URI::create).collect(Collectors.toList());
+    }
+
+    private static Credential createCredential(String type) throws IOException {
+        switch (type) {
+        case "user":
+            String user = DbTestConnector.getUser();
+            assumeTrue(user != null, "user not specified");
+            return new UsernamePasswordCredential(user, DbTestConnector.getPassword());
+        case "authToken":
+            String authToken = DbTestConnector.getAuthToken();
+            assumeTrue(authToken != null, "auth-token not specified");
+            return new RememberMeCredential(authToken);
+        case "file":
+            var credentials = DbTestConnector.getCredentials();
+            assumeTrue(credentials != null, "credentials not specified");
+            return FileCredential.load(credentials);
+        case "default":
+            return DbTestConnector.getCredential();
+        default:
+            throw new AssertionError(type);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "user", "authToken", "file", "default" })
+    void connect(String credentialType) throws Exception {
+        var credential = createCredential(credentialType);
+        for (var endpoint : getEndpointList()) {
+            for (var mode : new String[] { NEW, CACHED }) {
+                for (int clientSize : CLIENT_SIZE) {
+                    connect(credentialType, credential, endpoint, mode, clientSize);
+                }
+            }
+        }
+    }
+
+    private void connect(String credentialType, Credential credential, URI endpoint, String mode, int clientSize) throws Exception {
+        var cachedConnector = TsurugiConnector.of(endpoint, credential);
+        var connectLatency = new BenchmarkLatency();
+        var closeLatency = new BenchmarkLatency();
+
+        var taskList = new ArrayList<Callable<Void>>(clientSize);
+        for (int i = 0; i < clientSize; i++) {
+            taskList.add(() -> {
+                var sessionOption = TgSessionOption.of();
+                sessionOption.setLabel("connect." + credentialType);
+                sessionOption.setTimeout(TgTimeoutKey.DEFAULT, 20, TimeUnit.SECONDS);
+
+                for (int j = 0; j < SESSION_SIZE; j++) {
+                    long start = System.nanoTime();
+                    var connector = mode.equals(CACHED) ? cachedConnector : TsurugiConnector.of(endpoint, credential);
+                    var session = connector.createSession(sessionOption);
+                    try {
+                        session.getLowSession();
+                        connectLatency.add(System.nanoTime() - start);
+                    } finally {
+                        long closeStart = System.nanoTime();
+                        session.close();
+                        closeLatency.add(System.nanoTime() - closeStart);
+                    }
+                }
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        executeConcurrently(taskList);
+        long elapsed = System.nanoTime() - start;
+
+        logBenchmark("connect." + credentialType, "%s %s client=%d: %.1f sessions/s, connect(%s), close(%s)", endpoint.getScheme(), mode, clientSize, //
+                perSecond((long) clientSize * SESSION_SIZE, elapsed), connectLatency, closeLatency);
+    }
+}
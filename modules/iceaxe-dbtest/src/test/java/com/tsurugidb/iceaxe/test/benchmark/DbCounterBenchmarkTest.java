@@ -0,0 +1,149 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestSessions;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.event.counter.TgTmSimpleCounter;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * read-modify-write (counter increment) benchmark
+ *
+ * <p>
+ * each thread increments a randomly chosen row of {@code counter.rows} rows {@code counter.increment} times (fewer rows means higher contention). one increment is one transaction, retried until it
+ * succeeds. the sum of the counters must equal the number of increments (no lost update).
+ * </p>
+ * <ul>
+ * <li>EXPRESSION: {@code update set v = v + 1} in OCC</li>
+ * <li>OCC: select v, then update set v = :v in OCC</li>
+ * <li>LTX: select v, then update set v = :v in LTX with write preserve</li>
+ * </ul>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbCounterBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int INCREMENT_SIZE = getBenchmarkProperty("counter.increment", 1000); // per thread
+    private static final int[] THREAD_SIZE = getBenchmarkPropertyList("counter.thread", 1, 4, 16);
+    private static final int[] ROW_SIZE = getBenchmarkPropertyList("counter.rows", 1, 16, 1024);
+
+    private static final String TABLE = "bench_counter";
+
+    private static final String EXPRESSION = "EXPRESSION";
+    private static final String OCC = "OCC";
+    private static final String LTX = "LTX";
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(TABLE);
+    }
+
+    private static void createTable(int rowSize) throws IOException, InterruptedException {
+        dropTable(TABLE);
+        executeDdl(getSession(), "create table " + TABLE + "(pk int primary key, v bigint)", TABLE);
+
+        var variables = TgBindVariables.of().addInt("pk").addLong("v");
+        var sql = "insert or replace into " + TABLE + " values(" + variables.getSqlNames() + ")";
+        insertBulk(sql, TgParameterMapping.of(variables), rowSize, i -> TgBindParameters.of().addInt("pk", i).addLong("v", 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { EXPRESSION, OCC, LTX })
+    void increment(String type) throws Exception {
+        for (int rowSize : ROW_SIZE) {
+            for (int threadSize : THREAD_SIZE) {
+                createTable(rowSize);
+                increment(type, rowSize, threadSize);
+            }
+        }
+    }
+
+    private void increment(String type, int rowSize, int threadSize) throws Exception {
+        var counter = new TgTmSimpleCounter();
+        try (var sessions = new DbTestSessions()) {
+            var taskList = new ArrayList<Callable<Void>>(threadSize);
+            for (int i = 0; i < threadSize; i++) {
+                taskList.add(new IncrementTask(sessions.createSession(), type, rowSize, i, counter));
+            }
+
+            long start = System.nanoTime();
+            executeConcurrently(taskList);
+            long elapsed = System.nanoTime() - start;
+
+            long total = (long) INCREMENT_SIZE * threadSize;
+            var count = counter.getCount();
+            logBenchmark("counter." + type, "rows=%d, thread=%d: %.1f increments/s, transaction=%d, retry=%d, retry/increment=%.4f", //
+                    rowSize, threadSize, perSecond(total, elapsed), count.transactionCount(), count.retryCount(), (double) count.retryCount() / total);
+        }
+
+        var session = getSession();
+        try (var ps = session.createQuery("select sum(v) from " + TABLE, TgResultMapping.ofSingle(long.class))) {
+            long sum = createTransactionManagerOcc(session).executeAndFindRecord(ps).get();
+            assertEquals((long) INCREMENT_SIZE * threadSize, sum, "lost update");
+        }
+    }
+
+    private static class IncrementTask implements Callable<Void> {
+        private final TsurugiSession session;
+        private final String type;
+        private final int rowSize;
+        private final int threadNumber;
+        private final TgTmSimpleCounter counter;
+
+        public IncrementTask(TsurugiSession session, String type, int rowSize, int threadNumber, TgTmSimpleCounter counter) {
+            this.session = session;
+            this.type = type;
+            this.rowSize = rowSize;
+            this.threadNumber = threadNumber;
+            this.counter = counter;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            var txOption = type.equals(LTX) ? TgTxOption.ofLTX(TABLE) : TgTxOption.ofOCC();
+            var tm = session.createTransactionManager(TgTmSetting.ofAlways(txOption.label("counter." + type)));
+            tm.addEventListener(counter);
+
+            var random = new Random(threadNumber);
+            if (type.equals(EXPRESSION)) {
+                var pk = TgParameterMapping.ofSingle("pk", int.class);
+                try (var ps = session.createStatement("update " + TABLE + " set v = v + 1 where pk = :pk", pk)) {
+                    for (int i = 0; i < INCREMENT_SIZE; i++) {
+                        int key = random.nextInt(rowSize);
+                        tm.executeAndGetCount(ps, key);
+                    }
+                }
+                return null;
+            }
+
+            var selectMapping = TgParameterMapping.ofSingle("pk", int.class);
+            var updateVariables = TgBindVariables.of().addInt("pk").addLong("v");
+            try (var selectPs = session.createQuery("select v from " + TABLE + " where pk = :pk", selectMapping, TgResultMapping.ofSingle(long.class)); //
+                    var updatePs = session.createStatement("update " + TABLE + " set v = :v where pk = :pk", TgParameterMapping.of(updateVariables))) {
+                for (int i = 0; i < INCREMENT_SIZE; i++) {
+                    int key = random.nextInt(rowSize);
+                    tm.execute(transaction -> {
+                        long v = transaction.executeAndFindRecord(selectPs, key).get();
+                        transaction.executeAndGetCount(updatePs, TgBindParameters.of().addInt("pk", key).addLong("v", v + 1));
+                    });
+                }
+            }
+            return null;
+        }
+    }
+}
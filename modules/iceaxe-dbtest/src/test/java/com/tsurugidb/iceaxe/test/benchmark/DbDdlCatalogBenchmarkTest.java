@@ -0,0 +1,120 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * DDL throughput and catalog size benchmark
+ *
+ * <p>
+ * each checkpoint is marked by {@link #serverLog(org.slf4j.Logger, String)}, and logs the catalog lookup latency seen by the client: per-table cost of getTableNameList and growth since the
+ * first checkpoint.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbDdlCatalogBenchmarkTest extends DbBenchmarkTester {
+
+    private static final String TABLE_PREFIX = "bench_ddl_";
+    private static final int TABLE_SIZE = getBenchmarkProperty("ddlCatalog.table", 1000);
+    private static final int CHECKPOINT = getBenchmarkProperty("ddlCatalog.checkpoint", 100);
+    private static final int LOOKUP_SIZE = 100;
+
+    private int createdSize = 0;
+    private double firstMetadataMillis = 0;
+    private double firstListMillis = 0;
+
+    @AfterEach
+    void afterEach() throws Exception {
+        for (int i = 0; i < createdSize; i++) {
+            dropTable(TABLE_PREFIX + i);
+        }
+    }
+
+    @Test
+    void createIndexDrop() throws Exception {
+        var session = getSession();
+        var createLatency = new BenchmarkLatency();
+        var indexLatency = new BenchmarkLatency();
+        var dropLatency = new BenchmarkLatency();
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            String tableName = TABLE_PREFIX + i;
+            dropTable(tableName);
+
+            long start = System.nanoTime();
+            executeDdl(session, CREATE_TEST_SQL.replace(TEST, tableName), tableName);
+            createLatency.add(System.nanoTime() - start);
+            createdSize = i + 1;
+
+            start = System.nanoTime();
+            executeDdl(session, "create index idx_" + tableName + "_bar on " + tableName + " (bar)", tableName);
+            indexLatency.add(System.nanoTime() - start);
+
+            if ((i + 1) % CHECKPOINT == 0) {
+                checkpoint(session, i + 1);
+            }
+        }
+        logBenchmark("create table", "%s", createLatency);
+        logBenchmark("create index", "%s", indexLatency);
+
+        for (int i = createdSize - 1; i >= 0; i--) {
+            String tableName = TABLE_PREFIX + i;
+            long start = System.nanoTime();
+            executeDdl(session, "drop table " + tableName, tableName);
+            dropLatency.add(System.nanoTime() - start);
+            createdSize = i;
+
+            if (i % CHECKPOINT == 0) {
+                checkpoint(session, i);
+            }
+        }
+        logBenchmark("drop table", "%s", dropLatency);
+        assertEquals(0, createdSize);
+    }
+
+    private void checkpoint(TsurugiSession session, int catalogSize) throws IOException, InterruptedException {
+        serverLog(LOG, "ddlCatalog checkpoint tableSize=" + catalogSize);
+
+        var metadataLatency = new BenchmarkLatency();
+        var listLatency = new BenchmarkLatency();
+        if (catalogSize > 0) {
+            var random = ThreadLocalRandom.current();
+            for (int i = 0; i < LOOKUP_SIZE; i++) {
+                String tableName = TABLE_PREFIX + random.nextInt(catalogSize);
+                long start = System.nanoTime();
+                assertTrue(session.findTableMetadata(tableName).isPresent());
+                metadataLatency.add(System.nanoTime() - start);
+            }
+        }
+        for (int i = 0; i < LOOKUP_SIZE / 10; i++) {
+            long start = System.nanoTime();
+            var list = session.getTableNameList();
+            listLatency.add(System.nanoTime() - start);
+            assertTrue(list.size() >= catalogSize);
+        }
+
+        if (firstListMillis == 0) {
+            this.firstMetadataMillis = metadataLatency.averageMillis();
+            this.firstListMillis = listLatency.averageMillis();
+        }
+        double perTableMicros = (catalogSize > 0) ? listLatency.averageMillis() * 1000 / catalogSize : 0;
+        logBenchmark("catalog", "tableSize=%d findTableMetadata(%s) growth=%.2fx", catalogSize, metadataLatency, growth(metadataLatency.averageMillis(), firstMetadataMillis));
+        logBenchmark("catalog", "tableSize=%d getTableNameList(%s) perTable=%.3fus growth=%.2fx", catalogSize, listLatency, perTableMicros, growth(listLatency.averageMillis(), firstListMillis));
+    }
+
+    private static double growth(double millis, double firstMillis) {
+        if (firstMillis <= 0) {
+            return 0;
+        }
+        return millis / firstMillis;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.TestEntity;
+import com.tsurugidb.iceaxe.test.util.TestEntityMappings;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+/**
+ * entity mapping benchmark (hand-built {@link #INSERT_MAPPING}/{@link #SELECT_MAPPING} vs generated {@link TestEntityMappings})
+ *
+ * <p>
+ * the generated mappings build the low parameters directly (no {@code TgBindParameters} and no lambda per row).
+ * </p>
+ * <ul>
+ * <li>offlineParameter: {@code toLowParameterList()} only. no server access.</li>
+ * <li>insertSelect: both sides include the network and the server, so the difference is small compared with the total. the result mapping is measured only here, because it converts a
+ * {@code TsurugiResultRecord} of a live query.</li>
+ * </ul>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbEntityMappingBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("entityMapping.record", 100000);
+    private static final int OFFLINE_SIZE = getBenchmarkProperty("entityMapping.offlineRecord", 1000000);
+    private static final int ROUND = getBenchmarkProperty("entityMapping.round", 5);
+
+    @Test
+    void offlineParameter() throws Exception {
+        var convertUtil = new IceaxeConvertUtil();
+        var entityList = new ArrayList<TestEntity>(OFFLINE_SIZE);
+        for (int i = 0; i < OFFLINE_SIZE; i++) {
+            entityList.add(createTestEntity(i));
+        }
+
+        for (int round = 0; round < ROUND; round++) {
+            long start = System.nanoTime();
+            long handSize = 0;
+            for (var entity : entityList) {
+                for (var lowParameter : INSERT_MAPPING.toLowParameterList(entity, convertUtil)) {
+                    handSize += lowParameter.getSerializedSize();
+                }
+            }
+            long handTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long generatedSize = 0;
+            for (var entity : entityList) {
+                for (var lowParameter : TestEntityMappings.PARAMETER_MAPPING.toLowParameterList(entity, convertUtil)) {
+                    generatedSize += lowParameter.getSerializedSize();
+                }
+            }
+            long generatedTime = System.nanoTime() - start;
+            assertEquals(handSize, generatedSize);
+
+            if (round > 0) {
+                logBenchmark("entityMapping.offline", "round=%d: toLowParameterList hand-built %.1f ns/row, generated %.1f ns/row", //
+                        round, (double) handTime / OFFLINE_SIZE, (double) generatedTime / OFFLINE_SIZE);
+            }
+        }
+    }
+
+    @Test
+    void insertSelect() throws Exception {
+        dropTestTable();
+        createTestTable();
+
+        for (int round = 0; round < ROUND; round++) {
+            long handInsert = insert(INSERT_MAPPING);
+            long generatedInsert = insert(TestEntityMappings.PARAMETER_MAPPING);
+            long handSelect = select(SELECT_MAPPING);
+            long generatedSelect = select(TestEntityMappings.RESULT_MAPPING);
+
+            if (round > 0) {
+                logBenchmark("entityMapping", "round=%d: insert hand-built %.1f rows/s, generated %.1f rows/s; select hand-built %.1f rows/s, generated %.1f rows/s", round, //
+                        perSecond(SIZE, handInsert), perSecond(SIZE, generatedInsert), perSecond(SIZE, handSelect), perSecond(SIZE, generatedSelect));
+            }
+        }
+    }
+
+    private long insert(TgParameterMapping<TestEntity> parameterMapping) throws Exception {
+        long start = System.nanoTime();
+        insertBulk(UPSERT_SQL, parameterMapping, SIZE, DbTestTableTester::createTestEntity);
+        return System.nanoTime() - start;
+    }
+
+    private long select(TgResultMapping<TestEntity> resultMapping) throws Exception {
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+        try (var ps = session.createQuery(SELECT_SQL, resultMapping)) {
+            long start = System.nanoTime();
+            long[] sum = { 0 };
+            tm.executeAndForEach(ps, entity -> sum[0] += entity.getBar());
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals((long) SIZE * (SIZE - 1) / 2, sum[0]);
+            return elapsed;
+        }
+    }
+}
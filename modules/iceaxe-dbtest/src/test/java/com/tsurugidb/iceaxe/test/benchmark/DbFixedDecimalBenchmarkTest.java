@@ -0,0 +1,109 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameter;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.util.FixedDecimal;
+
+/**
+ * DECIMAL(18,2) benchmark ({@link BigDecimal} vs {@link FixedDecimal})
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbFixedDecimalBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("fixedDecimal.record", 100000);
+    private static final int OFFLINE_SIZE = getBenchmarkProperty("fixedDecimal.offlineRecord", 1000000);
+    private static final int ROUND = getBenchmarkProperty("fixedDecimal.round", 5);
+    private static final int SCALE = 2;
+
+    private static final TgBindVariable<Integer> PK = TgBindVariable.ofInt("pk");
+    private static final TgBindVariable<BigDecimal> VALUE = TgBindVariable.ofDecimal("value");
+    private static final String UPSERT_VALUE_SQL = "insert or replace into " + TEST + " values(" + PK + ", " + VALUE + ")";
+
+    private static long unscaledValue(int i) {
+        return i * 1_000_003L - 500_000_000L;
+    }
+
+    @Test
+    void offlineBind() throws Exception {
+        for (int round = 0; round < ROUND; round++) {
+            long start = System.nanoTime();
+            long size = 0;
+            for (int i = 0; i < OFFLINE_SIZE; i++) {
+                size += VALUE.bind(BigDecimal.valueOf(unscaledValue(i), SCALE)).toLowParameter().getSerializedSize();
+            }
+            long bigDecimalTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long fixedSize = 0;
+            for (int i = 0; i < OFFLINE_SIZE; i++) {
+                fixedSize += FixedDecimal.bind("value", unscaledValue(i), SCALE).toLowParameter().getSerializedSize();
+            }
+            long fixedTime = System.nanoTime() - start;
+            assertEquals(size, fixedSize);
+
+            if (round > 0) {
+                logBenchmark("fixedDecimal.offline", "round=%d: BigDecimal %.1f ns/value, FixedDecimal %.1f ns/value", //
+                        round, (double) bigDecimalTime / OFFLINE_SIZE, (double) fixedTime / OFFLINE_SIZE);
+            }
+        }
+    }
+
+    @Test
+    void live() throws Exception {
+        dropTestTable();
+        executeDdl(getSession(), "create table " + TEST + "(pk int primary key, value decimal(18," + SCALE + "))");
+
+        for (int round = 0; round < ROUND; round++) {
+            long bigDecimalInsert = insert(i -> VALUE.bind(BigDecimal.valueOf(unscaledValue(i), SCALE)));
+            long fixedInsert = insert(i -> FixedDecimal.bind("value", unscaledValue(i), SCALE));
+
+            long bigDecimalSelect = select("select value from " + TEST, TgResultMapping.of(record -> record.nextDecimal().unscaledValue().longValueExact()));
+            long fixedSelect = select( // server-side cast, not a client decode path
+                    "select " + FixedDecimal.unscaledSelectExpression("value", SCALE) + " from " + TEST, TgResultMapping.of(record -> record.nextLong()));
+
+            if (round > 0) {
+                logBenchmark("fixedDecimal.live", "round=%d: insert BigDecimal %.1f rows/s, FixedDecimal %.1f rows/s; select BigDecimal %.1f rows/s, unscaled bigint (server cast) %.1f rows/s", round, //
+                        perSecond(SIZE, bigDecimalInsert), perSecond(SIZE, fixedInsert), perSecond(SIZE, bigDecimalSelect), perSecond(SIZE, fixedSelect));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueBinder {
+        TgBindParameter bind(int i);
+    }
+
+    private long insert(ValueBinder binder) throws Exception {
+        long start = System.nanoTime();
+        insertBulk(UPSERT_VALUE_SQL, TgParameterMapping.of(PK, VALUE), SIZE, i -> TgBindParameters.of(PK.bind(i), binder.bind(i)));
+        return System.nanoTime() - start;
+    }
+
+    private long select(String sql, TgResultMapping<Long> resultMapping) throws Exception {
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+        try (var ps = session.createQuery(sql, resultMapping)) {
+            long start = System.nanoTime();
+            long[] sum = { 0 };
+            tm.executeAndForEach(ps, v -> sum[0] += v);
+            long elapsed = System.nanoTime() - start;
+
+            long expected = 0;
+            for (int i = 0; i < SIZE; i++) {
+                expected += unscaledValue(i);
+            }
+            assertEquals(expected, sum[0]);
+            return elapsed;
+        }
+    }
+}
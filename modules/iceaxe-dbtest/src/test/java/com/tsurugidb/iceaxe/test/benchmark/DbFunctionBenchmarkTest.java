@@ -0,0 +1,127 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * scalar function throughput benchmark
+ *
+ * <p>
+ * each function is evaluated on the server for all rows by {@code select count(<function>)}, so that the transfer of the result is not included. the cost per row is reported as the difference from
+ * the baseline (the column itself). string functions are executed with ASCII and multibyte (3 bytes per character in UTF-8) values.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbFunctionBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("function.size", 1_000_000);
+    private static final int REPEAT = getBenchmarkProperty("function.repeat", 5);
+
+    private static final String ASCII = "bench_func_ascii";
+    private static final String MULTIBYTE = "bench_func_multi";
+
+    private static final String ASCII_BASE = "abcdefghijklmnopqrstuvwxyzABCD"; // 30 characters
+    private static final String MULTIBYTE_BASE = "あいうえおかきくけこさしすせそたちつてとなにぬねのはひふへほ"; // 30 characters
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbFunctionBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        createTable(ASCII, ASCII_BASE);
+        createTable(MULTIBYTE, MULTIBYTE_BASE);
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(ASCII);
+        dropTable(MULTIBYTE);
+    }
+
+    private static void createTable(String tableName, String base) throws IOException, InterruptedException {
+        dropTable(tableName);
+        executeDdl(getSession(), "create table " + tableName + "(pk int primary key, s varchar(120), n bigint, d decimal(12,2), x bigint)", tableName);
+
+        var variables = TgBindVariables.of().addInt("pk").addString("s").addLong("n").addDecimal("d").addLong("x");
+        var sql = "insert or replace into " + tableName + " values(" + variables.getSqlNames() + ")";
+        insertBulk(sql, TgParameterMapping.of(variables), SIZE, i -> {
+            int shift = i % base.length();
+            String s = base.substring(shift) + base.substring(0, shift);
+            return TgBindParameters.of().addInt("pk", i).addString("s", s).addLong("n", i).addDecimal("d", BigDecimal.valueOf(i, 2)) //
+                    .addLong("x", (i % 2 == 0) ? null : (long) i);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { ASCII, MULTIBYTE })
+    void string(String tableName) throws Exception {
+        String base = tableName.equals(ASCII) ? ASCII_BASE : MULTIBYTE_BASE;
+        String needle = base.substring(20, 22);
+
+        double baseline = measure(tableName, "baseline", "s");
+        measure(tableName, baseline, "substring", "substring(s from 5 for 10)");
+        measure(tableName, baseline, "substr", "substr(s, 5, 10)");
+        measure(tableName, baseline, "position", "position('" + needle + "' in s)");
+        measure(tableName, baseline, "upper", "upper(s)");
+        measure(tableName, baseline, "lower", "lower(s)");
+        measure(tableName, baseline, "char_length", "char_length(s)");
+        measure(tableName, baseline, "octet_length", "octet_length(s)");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { ASCII })
+    void numeric(String tableName) throws Exception {
+        double baseline = measure(tableName, "baseline", "n");
+        measure(tableName, baseline, "abs", "abs(n - " + (SIZE / 2) + ")");
+        measure(tableName, baseline, "ceil", "ceil(d)");
+        measure(tableName, baseline, "floor", "floor(d)");
+        measure(tableName, baseline, "mod", "mod(n, 7)");
+        measure(tableName, baseline, "case", "case mod(n, 3) when 0 then 'zero' when 1 then 'one' else 'two' end");
+        measure(tableName, baseline, "coalesce", "coalesce(x, n)");
+        measure(tableName, baseline, "nullif", "nullif(n, -1)");
+    }
+
+    private double measure(String tableName, double baseline, String name, String expression) throws Exception {
+        double nanosPerRow = measure(tableName, name, expression);
+        logBenchmark("function." + name, "%s: %.1f ns/row over baseline", tableName, nanosPerRow - baseline);
+        return nanosPerRow;
+    }
+
+    private double measure(String tableName, String name, String expression) throws Exception {
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("function." + name)));
+        var sql = "select count(" + expression + ") from " + tableName;
+        try (var ps = session.createQuery(sql, TgResultMapping.ofSingle(long.class))) {
+            var latency = new BenchmarkLatency();
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                long count = tm.executeAndFindRecord(ps).get();
+                latency.add(System.nanoTime() - start);
+                assertEquals(SIZE, count, () -> sql);
+            }
+
+            double nanosPerRow = (double) latency.totalNanos() / latency.count() / SIZE;
+            logBenchmark("function." + name, "%s %s: %.1f rows/s, %.1f ns/row, %s", tableName, expression, perSecond((long) SIZE * latency.count(), latency.totalNanos()), nanosPerRow, latency);
+            return nanosPerRow;
+        }
+    }
+}
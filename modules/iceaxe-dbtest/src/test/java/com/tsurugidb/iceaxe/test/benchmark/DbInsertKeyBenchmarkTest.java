@@ -0,0 +1,141 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestSessions;
+import com.tsurugidb.iceaxe.test.util.KeyRangeAllocator;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.event.counter.TgTmSimpleCounter;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * insert throughput benchmark by key generation (generated identity, generated rowid, client-assigned key, {@link KeyRangeAllocator})
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbInsertKeyBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int RECORD_SIZE = getBenchmarkProperty("insertKey.record", 5000); // per thread
+    private static final int[] THREAD_SIZE = getBenchmarkPropertyList("insertKey.thread", 1, 4, 16);
+
+    private static final String IDENTITY_ALWAYS = "IDENTITY_ALWAYS";
+    private static final String IDENTITY_BY_DEFAULT = "IDENTITY_BY_DEFAULT";
+    private static final String ROWID = "ROWID";
+    private static final String CLIENT = "CLIENT";
+    private static final String ALLOCATOR = "ALLOCATOR";
+    private static final int ALLOCATOR_BLOCK_SIZE = getBenchmarkProperty("insertKey.allocatorBlock", 1000);
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(KeyRangeAllocator.KEY_TABLE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { IDENTITY_ALWAYS, IDENTITY_BY_DEFAULT, ROWID, CLIENT, ALLOCATOR })
+    void insert(String keyType) throws Exception {
+        for (int threadSize : THREAD_SIZE) {
+            createTable(keyType);
+            insert(keyType, threadSize);
+        }
+    }
+
+    private static void createTable(String keyType) throws IOException, InterruptedException {
+        dropTestTable();
+
+        String sql;
+        switch (keyType) {
+        case IDENTITY_ALWAYS:
+            sql = "create table " + TEST + "(foo int primary key generated always as identity, bar bigint, zzz varchar(10))";
+            break;
+        case IDENTITY_BY_DEFAULT:
+            sql = "create table " + TEST + "(foo int primary key generated by default as identity, bar bigint, zzz varchar(10))";
+            break;
+        case ROWID:
+            sql = CREATE_TEST_NO_PK_SQL;
+            break;
+        case CLIENT:
+            sql = CREATE_TEST_SQL;
+            break;
+        case ALLOCATOR:
+            sql = CREATE_TEST_SQL;
+            dropTable(KeyRangeAllocator.KEY_TABLE);
+            executeDdl(getSession(), KeyRangeAllocator.CREATE_KEY_TABLE_SQL, KeyRangeAllocator.KEY_TABLE);
+            break;
+        default:
+            throw new AssertionError(keyType);
+        }
+        executeDdl(getSession(), sql);
+    }
+
+    private void insert(String keyType, int threadSize) throws Exception {
+        var counter = new TgTmSimpleCounter();
+        try (var sessions = new DbTestSessions()) {
+            var taskList = new ArrayList<Callable<Void>>(threadSize);
+            for (int i = 0; i < threadSize; i++) {
+                taskList.add(new InsertTask(sessions.createSession(), keyType, i, counter));
+            }
+
+            long start = System.nanoTime();
+            executeConcurrently(taskList);
+            long elapsed = System.nanoTime() - start;
+
+            int total = RECORD_SIZE * threadSize;
+            var count = counter.getCount();
+            double conflictRate = (double) count.retryCount() / count.transactionCount();
+            logBenchmark(keyType, "thread=%d: %.1f inserts/s, transaction=%d, retry=%d, conflictRate=%.4f", //
+                    threadSize, perSecond(total, elapsed), count.transactionCount(), count.retryCount(), conflictRate);
+            assertEquals(total, selectCountFromTest());
+        }
+    }
+
+    private static class InsertTask implements Callable<Void> {
+        private final TsurugiSession session;
+        private final String keyType;
+        private final int threadNumber;
+        private final TgTmSimpleCounter counter;
+
+        public InsertTask(TsurugiSession session, String keyType, int threadNumber, TgTmSimpleCounter counter) {
+            this.session = session;
+            this.keyType = keyType;
+            this.threadNumber = threadNumber;
+            this.counter = counter;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            boolean clientKey = keyType.equals(ROWID) || keyType.equals(CLIENT) || keyType.equals(ALLOCATOR);
+            var allocator = keyType.equals(ALLOCATOR) ? new KeyRangeAllocator(session, TEST, ALLOCATOR_BLOCK_SIZE) : null;
+            var variables = clientKey ? TgBindVariables.of().addInt("foo").addLong("bar").addString("zzz") //
+                    : TgBindVariables.of().addLong("bar").addString("zzz");
+            var sql = "insert into " + TEST + "(" + (clientKey ? "foo, " : "") + "bar, zzz) values(" + variables.getSqlNames() + ")";
+
+            try (allocator; var ps = session.createStatement(sql, TgParameterMapping.of(variables))) {
+                var tm = session.createTransactionManager(TgTmSetting.ofAlways(TgTxOption.ofOCC().label("insertKey." + keyType)));
+                tm.addEventListener(counter);
+
+                int base = threadNumber * RECORD_SIZE;
+                for (int i = 0; i < RECORD_SIZE; i++) {
+                    int key = (allocator != null) ? allocator.nextIntKey() : base + i;
+                    var parameter = TgBindParameters.of().addLong("bar", key).addString("zzz", Integer.toString(threadNumber));
+                    if (clientKey) {
+                        parameter.addInt("foo", key);
+                    }
+                    tm.executeAndGetCount(ps, parameter);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+
+/**
+ * INSERT ... SELECT (server-side copy) benchmark versus client round-trip copy
+ *
+ * <p>
+ * server-side copy is {@code insert into dst select * from src} in one statement. client copy is the same as DbSelectFetchTest (select key, lookup by key, insert per row). the client copy is
+ * executed only up to {@code insertSelect.clientMaxSize} rows because it needs one round trip per row. the source table is copied into itself at last (toTxOptionSame case of DbInsertSelectTest):
+ * OCC may fail with CC_OCC_PHANTOM_AVOIDANCE, LTX must succeed.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbInsertSelectBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int[] SIZE = getBenchmarkPropertyList("insertSelect.size", 10_000, 100_000, 1_000_000); // 10_000_000 by property
+    private static final int CLIENT_MAX_SIZE = getBenchmarkProperty("insertSelect.clientMaxSize", 100_000);
+
+    private static final String SRC = "bench_copy_src";
+    private static final String DST = "bench_copy_dst";
+    private static final String SAME = "bench_copy_same";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbInsertSelectBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        int maxSize = 0;
+        for (int size : SIZE) {
+            maxSize = Math.max(maxSize, size);
+        }
+        createTable(SRC);
+        insertBulk(SRC, maxSize);
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(SRC);
+        dropTable(DST);
+        dropTable(SAME);
+    }
+
+    private static void createTable(String tableName) throws IOException, InterruptedException {
+        dropTable(tableName);
+        executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, tableName), tableName);
+    }
+
+    private static TgTxOption toTxOption(String s, String writePreserve) {
+        switch (s) {
+        case "OCC":
+            return TgTxOption.ofOCC().label("insertSelect");
+        case "LTX":
+            return TgTxOption.ofLTX(writePreserve).label("insertSelect");
+        default:
+            throw new AssertionError(s);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "OCC", "LTX" })
+    void copy(String s) throws Exception {
+        var txOption = toTxOption(s, DST);
+        for (int size : SIZE) {
+            long server = serverCopy(txOption, size);
+            if (size <= CLIENT_MAX_SIZE) {
+                long client = clientCopy(txOption, size);
+                logBenchmark("insertSelect." + s, "size=%d: server %.3f ms (%.1f rows/s), client %.3f ms (%.1f rows/s), ratio=%.2f", size, //
+                        toMillis(server), perSecond(size, server), toMillis(client), perSecond(size, client), (double) client / server);
+            } else {
+                logBenchmark("insertSelect." + s, "size=%d: server %.3f ms (%.1f rows/s), client skipped", size, toMillis(server), perSecond(size, server));
+            }
+        }
+    }
+
+    private long serverCopy(TgTxOption txOption, int size) throws Exception {
+        createTable(DST);
+
+        var sql = "insert into " + DST + " select * from " + SRC + " where foo < " + size;
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(txOption));
+        try (var ps = session.createStatement(sql)) {
+            serverLog(LOG, null, "insertSelect start server size=" + size);
+            long start = System.nanoTime();
+            long count = tm.execute(transaction -> {
+                return transaction.executeAndGetCountDetail(ps).getInsertedCount();
+            });
+            long elapsed = System.nanoTime() - start;
+            serverLog(LOG, null, "insertSelect end server size=" + size);
+
+            assertEquals(size, count);
+            assertEquals(size, selectCountFrom(DST));
+            return elapsed;
+        }
+    }
+
+    private long clientCopy(TgTxOption txOption, int size) throws Exception {
+        createTable(DST);
+
+        var cond = TgBindVariable.ofInt("foo");
+        var sql = SELECT_SQL.replace(TEST, SRC) + " where foo=" + cond;
+        var parameterMapping = TgParameterMapping.of(cond);
+
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(txOption));
+        try (var ps = session.createQuery("select foo from " + SRC + " where foo < " + size); //
+                var ps2 = session.createQuery(sql, parameterMapping, SELECT_MAPPING); //
+                var ps3 = session.createStatement(INSERT_SQL.replace(TEST, DST), INSERT_MAPPING)) {
+            var count = new AtomicLong();
+            long start = System.nanoTime();
+            tm.execute(transaction -> {
+                count.set(0);
+                transaction.executeAndForEach(ps, fetch -> {
+                    int foo = fetch.getInt("foo");
+                    var parameter = TgBindParameters.of(cond.bind(foo));
+                    var entity = transaction.executeAndFindRecord(ps2, parameter).get();
+                    count.addAndGet(transaction.executeAndGetCount(ps3, entity));
+                });
+            });
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals(size, count.get());
+            assertEquals(size, selectCountFrom(DST));
+            return elapsed;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "OCC", "LTX" })
+    void copySame(String s) throws Exception {
+        var txOption = toTxOption(s, SAME);
+        int size = SIZE[0];
+        createTable(SAME);
+        insertBulk(SAME, size);
+
+        var sql = "insert into " + SAME + " select foo+" + size + ", bar, zzz from " + SAME;
+        var session = getSession();
+        try (var ps = session.createStatement(sql)) {
+            long start = System.nanoTime();
+            try (var transaction = session.createTransaction(txOption)) {
+                var count = transaction.executeAndGetCountDetail(ps);
+                transaction.commit(TgCommitType.DEFAULT);
+                long elapsed = System.nanoTime() - start;
+
+                assertEquals(size, count.getInsertedCount());
+                logBenchmark("insertSelect.same." + s, "size=%d: %.3f ms (%.1f rows/s)", size, toMillis(elapsed), perSecond(size, elapsed));
+            } catch (TsurugiTransactionException e) {
+                long elapsed = System.nanoTime() - start;
+                if (txOption.isOCC()) {
+                    assertEqualsCode(SqlServiceCode.CC_EXCEPTION, e);
+                    assertContains("reason_code:CC_OCC_PHANTOM_AVOIDANCE", e.getMessage());
+                    logBenchmark("insertSelect.same." + s, "size=%d: aborted after %.3f ms (CC_OCC_PHANTOM_AVOIDANCE)", size, toMillis(elapsed));
+                    return;
+                }
+                throw e;
+            }
+        }
+        assertEquals(size * 2, selectCountFrom(SAME));
+    }
+}
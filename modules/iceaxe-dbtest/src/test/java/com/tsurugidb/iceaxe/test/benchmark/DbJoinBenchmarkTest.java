@@ -0,0 +1,119 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * join benchmark (inner, left outer, multi-way, join with where)
+ *
+ * <p>
+ * fact table ({@code join.fact} rows) refers to two dimension tables ({@code join.dim} rows each). about 10% of the fact keys do not exist in the dimension tables. {@code join.skew} is the exponent
+ * of the key distribution (0: uniform, larger: more rows refer to small keys). the plan shape from explain is logged next to the latency.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbJoinBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int FACT_SIZE = getBenchmarkProperty("join.fact", 1_000_000);
+    private static final int DIM_SIZE = getBenchmarkProperty("join.dim", 10_000);
+    private static final int[] SKEW = getBenchmarkPropertyList("join.skew", 0, 3);
+    private static final int REPEAT = getBenchmarkProperty("join.repeat", 3);
+
+    private static final String FACT = "bench_join_fact";
+    private static final String DIM1 = "bench_join_dim1";
+    private static final String DIM2 = "bench_join_dim2";
+
+    private static final String[][] QUERY = { //
+            { "inner", "select f.pk, d1.value from " + FACT + " f inner join " + DIM1 + " d1 on d1.pk = f.key1" }, //
+            { "leftOuter", "select f.pk, d1.value from " + FACT + " f left outer join " + DIM1 + " d1 on d1.pk = f.key1" }, //
+            { "multiWay", "select f.pk, d1.value, d2.value from " + FACT + " f" //
+                    + " inner join " + DIM1 + " d1 on d1.pk = f.key1" //
+                    + " inner join " + DIM2 + " d2 on d2.pk = f.key2" }, //
+            { "joinWhere", "select f.pk, d1.value from " + FACT + " f inner join " + DIM1 + " d1 on d1.pk = f.key1" //
+                    + " where f.value < " + (FACT_SIZE / 10) + " and d1.value >= 0" }, //
+    };
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(FACT);
+        dropTable(DIM1);
+        dropTable(DIM2);
+    }
+
+    @Test
+    void join() throws Exception {
+        createDimTable(DIM1);
+        createDimTable(DIM2);
+
+        for (int skew : SKEW) {
+            createFactTable(skew);
+
+            for (var query : QUERY) {
+                execute(skew, query[0], query[1]);
+            }
+        }
+    }
+
+    private static void createDimTable(String tableName) throws IOException, InterruptedException {
+        dropTable(tableName);
+        executeDdl(getSession(), "create table " + tableName + "(pk int primary key, value bigint, name varchar(10))", tableName);
+
+        var variables = TgBindVariables.of().addInt("pk").addLong("value").addString("name");
+        var sql = "insert or replace into " + tableName + " values(" + variables.getSqlNames() + ")";
+        insertBulk(sql, TgParameterMapping.of(variables), DIM_SIZE, i -> TgBindParameters.of().addInt("pk", i).addLong("value", i).addString("name", Integer.toString(i)));
+    }
+
+    private static void createFactTable(int skew) throws IOException, InterruptedException {
+        dropTable(FACT);
+        executeDdl(getSession(), "create table " + FACT + "(pk int primary key, key1 int, key2 int, value bigint)", FACT);
+
+        var random = new Random(skew);
+        int keyRange = DIM_SIZE + DIM_SIZE / 10; // about 10% miss
+        var variables = TgBindVariables.of().addInt("pk").addInt("key1").addInt("key2").addLong("value");
+        var sql = "insert or replace into " + FACT + " values(" + variables.getSqlNames() + ")";
+        insertBulk(sql, TgParameterMapping.of(variables), FACT_SIZE, i -> TgBindParameters.of().addInt("pk", i) //
+                .addInt("key1", skewedKey(random, keyRange, skew)) //
+                .addInt("key2", skewedKey(random, keyRange, skew)) //
+                .addLong("value", i));
+    }
+
+    private static int skewedKey(Random random, int keyRange, int skew) {
+        double u = random.nextDouble();
+        return (int) (keyRange * Math.pow(u, 1 + skew));
+    }
+
+    private void execute(int skew, String name, String sql) throws Exception {
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("join." + name)));
+        try (var ps = session.createQuery(sql)) {
+            String plan = getPlanShape(ps.explain());
+
+            var latency = new BenchmarkLatency();
+            long rows = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                var count = new AtomicLong();
+                long start = System.nanoTime();
+                tm.executeAndForEach(ps, record -> count.incrementAndGet());
+                latency.add(System.nanoTime() - start);
+                rows = count.get();
+            }
+            assertTrue(rows > 0, () -> name + " returned no row");
+
+            logBenchmark("join." + name, "fact=%d, dim=%d, skew=%d, rows=%d, %s, %.1f rows/s", FACT_SIZE, DIM_SIZE, skew, rows, latency, perSecond(rows * latency.count(), latency.totalNanos()));
+            logBenchmark("join." + name, "plan=[%s]", plan);
+        }
+    }
+}
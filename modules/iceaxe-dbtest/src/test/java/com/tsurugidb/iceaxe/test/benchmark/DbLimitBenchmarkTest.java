@@ -0,0 +1,129 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * LIMIT (top-N) and early close benchmark
+ *
+ * <p>
+ * the same query is executed on a small table ({@code limit.smallSize}) and a large table ({@code limit.largeSize}). if LIMIT k terminates early, the latency does not grow with the table size. the
+ * ratio large/small must be less than {@code limit.maxRatio} for the cases that can terminate early (unordered, ordered by primary key, early close of TsurugiQueryResult). ordered by non-key column
+ * needs a full scan and is only reported.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbLimitBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SMALL_SIZE = getBenchmarkProperty("limit.smallSize", 100_000);
+    private static final int LARGE_SIZE = getBenchmarkProperty("limit.largeSize", 1_000_000);
+    private static final int[] LIMIT = getBenchmarkPropertyList("limit.k", 1, 100, 10_000);
+    private static final int MAX_RATIO = getBenchmarkProperty("limit.maxRatio", 3);
+    private static final int REPEAT = getBenchmarkProperty("limit.repeat", 5);
+
+    private static final String SMALL = "bench_limit_small";
+    private static final String LARGE = "bench_limit_large";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbLimitBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        for (var tableName : new String[] { SMALL, LARGE }) {
+            dropTable(tableName);
+            executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, tableName), tableName);
+        }
+        insertBulk(SMALL, SMALL_SIZE);
+        insertBulk(LARGE, LARGE_SIZE);
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(SMALL);
+        dropTable(LARGE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "unordered", "orderByKey", "orderByNonKey", "earlyClose" })
+    void limit(String type) throws Exception {
+        boolean earlyTermination = !type.equals("orderByNonKey");
+        for (int k : LIMIT) {
+            var small = execute(SMALL, type, k);
+            var large = execute(LARGE, type, k);
+
+            double ratio = large.percentileMillis(50) / small.percentileMillis(50);
+            logBenchmark("limit." + type, "k=%d: small(%d rows) %s, large(%d rows) %s, ratio=%.2f", k, SMALL_SIZE, small, LARGE_SIZE, large, ratio);
+            if (earlyTermination) {
+                assertTrue(ratio < MAX_RATIO, () -> String.format("%s k=%d grows with table size. ratio=%.2f", type, k, ratio));
+            }
+        }
+    }
+
+    private BenchmarkLatency execute(String tableName, String type, int k) throws Exception {
+        String sql;
+        switch (type) {
+        case "unordered":
+            sql = "select * from " + tableName + " limit " + k;
+            break;
+        case "orderByKey":
+            sql = "select * from " + tableName + " order by foo limit " + k;
+            break;
+        case "orderByNonKey":
+            sql = "select * from " + tableName + " order by bar desc limit " + k;
+            break;
+        case "earlyClose":
+            sql = "select * from " + tableName;
+            break;
+        default:
+            throw new AssertionError(type);
+        }
+
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("limit." + type)));
+        try (var ps = session.createQuery(sql, SELECT_MAPPING)) {
+            var latency = new BenchmarkLatency();
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                long count = type.equals("earlyClose") ? readAndClose(tm, ps, k) : readAll(tm, ps);
+                latency.add(System.nanoTime() - start);
+                assertEquals(k, count, () -> sql);
+            }
+            return latency;
+        }
+    }
+
+    private static long readAll(TsurugiTransactionManager tm, TsurugiSqlQuery<?> ps) throws Exception {
+        var count = new AtomicLong();
+        tm.executeAndForEach(ps, entity -> count.incrementAndGet());
+        return count.get();
+    }
+
+    private static long readAndClose(TsurugiTransactionManager tm, TsurugiSqlQuery<?> ps, int k) throws Exception {
+        return tm.execute(transaction -> {
+            long count = 0;
+            try (var result = transaction.executeQuery(ps)) {
+                while (count < k && result.nextRecord().isPresent()) {
+                    count++;
+                }
+            }
+            return count;
+        });
+    }
+}
@@ -0,0 +1,199 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestSessions;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.event.counter.TgTmSimpleCounter;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * RTX snapshot scan benchmark under concurrent OCC/LTX write load
+ *
+ * <ul>
+ * <li>scan only, write only, and scan while writing are executed for the same duration.</li>
+ * <li>rtxDuration is the time from the start of the RTX to the end of its scan (how long the snapshot is held, not how stale it is).</li>
+ * </ul>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbRtxScanBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("rtxScan.size", 1_000_000);
+    private static final int DURATION = getBenchmarkProperty("rtxScan.duration", 30); // seconds
+    private static final int SCAN_THREAD_SIZE = getBenchmarkProperty("rtxScan.scanThread", 4);
+    private static final int OCC_THREAD_SIZE = getBenchmarkProperty("rtxScan.occThread", 4);
+    private static final int LTX_THREAD_SIZE = getBenchmarkProperty("rtxScan.ltxThread", 1);
+    private static final int LTX_BATCH_SIZE = 100;
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbRtxScanBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        dropTestTable();
+        createTestTable();
+        insertTestTableBulk(SIZE);
+
+        logInitEnd(LOG, info);
+    }
+
+    @Test
+    void scanUnderWriteLoad() throws Exception {
+        var scanOnly = execute(SCAN_THREAD_SIZE, 0, 0);
+        logResult("scanOnly", scanOnly, null);
+
+        var writeOnly = execute(0, OCC_THREAD_SIZE, LTX_THREAD_SIZE);
+        logResult("writeOnly", writeOnly, null);
+
+        var mixed = execute(SCAN_THREAD_SIZE, OCC_THREAD_SIZE, LTX_THREAD_SIZE);
+        logResult("mixed", mixed, writeOnly);
+
+        assertEquals(SIZE, selectCountFromTest());
+    }
+
+    private static class Result {
+        final BenchmarkLatency scanLatency = new BenchmarkLatency();
+        final BenchmarkLatency rtxDuration = new BenchmarkLatency();
+        final AtomicLong scanRows = new AtomicLong();
+        final AtomicLong occCommit = new AtomicLong();
+        final AtomicLong ltxCommit = new AtomicLong();
+        final TgTmSimpleCounter occCounter = new TgTmSimpleCounter();
+        final TgTmSimpleCounter ltxCounter = new TgTmSimpleCounter();
+        long elapsed;
+    }
+
+    private Result execute(int scanThreadSize, int occThreadSize, int ltxThreadSize) throws Exception {
+        var result = new Result();
+        try (var sessions = new DbTestSessions()) {
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION);
+
+            var taskList = new ArrayList<Callable<Void>>();
+            for (int i = 0; i < scanThreadSize; i++) {
+                taskList.add(new ScanTask(sessions.createSession(), end, result));
+            }
+            for (int i = 0; i < occThreadSize; i++) {
+                taskList.add(new WriteTask(sessions.createSession(), end, result, false));
+            }
+            for (int i = 0; i < ltxThreadSize; i++) {
+                taskList.add(new WriteTask(sessions.createSession(), end, result, true));
+            }
+
+            long start = System.nanoTime();
+            executeConcurrently(taskList);
+            result.elapsed = System.nanoTime() - start;
+        }
+        return result;
+    }
+
+    private static class ScanTask implements Callable<Void> {
+        private final TsurugiSession session;
+        private final long end;
+        private final Result result;
+
+        public ScanTask(TsurugiSession session, long end, Result result) {
+            this.session = session;
+            this.end = end;
+            this.result = result;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            try (var ps = session.createQuery(SELECT_SQL, SELECT_MAPPING)) {
+                var tm = session.createTransactionManager(TgTmSetting.ofAlways(TgTxOption.ofRTX().label("rtxScan")));
+                while (System.nanoTime() < end) {
+                    var rows = new long[1];
+                    var scanStart = new long[1];
+                    long txStart = System.nanoTime();
+                    tm.execute(transaction -> {
+                        rows[0] = 0;
+                        scanStart[0] = System.nanoTime();
+                        transaction.executeAndForEach(ps, entity -> rows[0]++);
+                    });
+                    long now = System.nanoTime();
+                    result.scanLatency.add(now - scanStart[0]);
+                    result.rtxDuration.add(now - txStart);
+                    result.scanRows.addAndGet(rows[0]);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class WriteTask implements Callable<Void> {
+        private final TsurugiSession session;
+        private final long end;
+        private final Result result;
+        private final boolean ltx;
+
+        public WriteTask(TsurugiSession session, long end, Result result, boolean ltx) {
+            this.session = session;
+            this.end = end;
+            this.result = result;
+            this.ltx = ltx;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            var foo = TgBindVariable.ofInt("foo");
+            var sql = "update " + TEST + " set bar = bar + 1 where foo=" + foo;
+            try (var ps = session.createStatement(sql, TgParameterMapping.of(foo))) {
+                var txOption = ltx ? TgTxOption.ofLTX(TEST).label("rtxScan.ltx") : TgTxOption.ofOCC().label("rtxScan.occ");
+                var tm = session.createTransactionManager(TgTmSetting.ofAlways(txOption));
+                tm.addEventListener(ltx ? result.ltxCounter : result.occCounter);
+
+                int batchSize = ltx ? LTX_BATCH_SIZE : 1;
+                var random = ThreadLocalRandom.current();
+                while (System.nanoTime() < end) {
+                    tm.execute(transaction -> {
+                        for (int i = 0; i < batchSize; i++) {
+                            var parameter = TgBindParameters.of(foo.bind(random.nextInt(SIZE)));
+                            transaction.executeAndGetCount(ps, parameter);
+                        }
+                    });
+                    (ltx ? result.ltxCommit : result.occCommit).incrementAndGet();
+                }
+            }
+            return null;
+        }
+    }
+
+    private void logResult(String name, Result result, Result baseline) {
+        long elapsed = result.elapsed;
+        if (result.scanLatency.count() > 0) {
+            logBenchmark(name, "scan: %.1f scans/s, %.0f rows/s, latency(%s)", perSecond(result.scanLatency.count(), elapsed), perSecond(result.scanRows.get(), elapsed), result.scanLatency);
+            logBenchmark(name, "rtxDuration: avg=%.3fms, max=%.3fms", result.rtxDuration.averageMillis(), result.rtxDuration.maxMillis());
+        }
+        logWriter(name, "occ", result.occCommit.get(), result.occCounter, elapsed, (baseline != null) ? perSecond(baseline.occCommit.get(), baseline.elapsed) : 0);
+        logWriter(name, "ltx", result.ltxCommit.get(), result.ltxCounter, elapsed, (baseline != null) ? perSecond(baseline.ltxCommit.get(), baseline.elapsed) : 0);
+    }
+
+    private void logWriter(String name, String type, long commit, TgTmSimpleCounter counter, long elapsed, double baselineTps) {
+        if (commit == 0) {
+            return;
+        }
+        double tps = perSecond(commit, elapsed);
+        var count = counter.getCount();
+        if (baselineTps > 0) {
+            double degradation = (1 - tps / baselineTps) * 100;
+            logBenchmark(name, "%s writer: %.1f tx/s (degradation %.1f%%), retry=%d", type, tps, degradation, count.retryCount());
+        } else {
+            logBenchmark(name, "%s writer: %.1f tx/s, retry=%d", type, tps, count.retryCount());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TgSessionShutdownType;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * session shutdown / close latency benchmark with in-flight work
+ *
+ * <p>
+ * before shutdown, each session has {@code shutdown.inflight} open query results (first record read, the rest not fetched) and the same number of OCC transactions with an uncommitted insert whose
+ * result is not closed. pattern is the same as DbSessionShutdownTest (close shutdown type - explicit shutdown type). GRACEFUL must not wait for the session timeout because of idle open
+ * transactions and results; it must finish within {@code shutdown.maxGracefulMillis}. {@link #drain()} measures the explicit cleanup (close results, rollback) for comparison.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbSessionShutdownBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("shutdown.size", 100_000);
+    private static final int[] INFLIGHT = getBenchmarkPropertyList("shutdown.inflight", 0, 8, 64);
+    private static final int REPEAT = getBenchmarkProperty("shutdown.repeat", 5);
+    private static final int MAX_GRACEFUL_MILLIS = getBenchmarkProperty("shutdown.maxGracefulMillis", 5000);
+
+    private static final int SESSION_TIMEOUT = 20; // seconds
+
+    private static final String READ_TABLE = "bench_shutdown_r";
+    private static final String WRITE_TABLE = "bench_shutdown_w";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbSessionShutdownBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        for (var tableName : new String[] { READ_TABLE, WRITE_TABLE }) {
+            dropTable(tableName);
+            executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, tableName), tableName);
+        }
+        insertBulk(READ_TABLE, SIZE);
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(READ_TABLE);
+        dropTable(WRITE_TABLE);
+    }
+
+    private static class InFlight {
+        final List<TsurugiTransaction> transactionList = new ArrayList<>();
+        final List<TsurugiQueryResult<?>> queryResultList = new ArrayList<>();
+        final List<TsurugiStatementResult> statementResultList = new ArrayList<>();
+    }
+
+    private static InFlight startInFlight(TsurugiSession session, int size) throws Exception {
+        var inFlight = new InFlight();
+        if (size == 0) {
+            return inFlight;
+        }
+
+        var selectPs = session.createQuery(SELECT_SQL.replace(TEST, READ_TABLE), SELECT_MAPPING);
+        var insertPs = session.createStatement(INSERT_SQL.replace(TEST, WRITE_TABLE).replace("insert into", "insert or replace into"), INSERT_MAPPING);
+        for (int i = 0; i < size; i++) {
+            var rtx = session.createTransaction(TgTxOption.ofRTX().label("shutdown.query"));
+            inFlight.transactionList.add(rtx);
+            var queryResult = rtx.executeQuery(selectPs);
+            inFlight.queryResultList.add(queryResult);
+            queryResult.nextRecord();
+
+            var occ = session.createTransaction(TgTxOption.ofOCC().label("shutdown.statement"));
+            inFlight.transactionList.add(occ);
+            var statementResult = occ.executeStatement(insertPs, createTestEntity(i));
+            inFlight.statementResultList.add(statementResult);
+        }
+        return inFlight;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "N-N", "N-G", "N-F", "G-N", "G-G", "G-F", "F-N", "F-G", "F-F" })
+    void shutdown(String pattern) throws Exception {
+        var closeShutdownType = shutdownType(pattern.charAt(0));
+        var shutdownType = shutdownType(pattern.charAt(2));
+
+        for (int size : INFLIGHT) {
+            var shutdownLatency = new BenchmarkLatency();
+            var closeLatency = new BenchmarkLatency();
+            int closeError = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                var session = DbTestConnector.createSession("shutdown." + pattern, SESSION_TIMEOUT, TimeUnit.SECONDS, closeShutdownType);
+                startInFlight(session, size);
+
+                long start = System.nanoTime();
+                session.shutdown(shutdownType, SESSION_TIMEOUT, TimeUnit.SECONDS);
+                long shutdownEnd = System.nanoTime();
+                try {
+                    session.close();
+                } catch (IOException e) {
+                    LOG.debug("session close error. pattern={}", pattern, e);
+                    closeError++;
+                }
+                long closeEnd = System.nanoTime();
+
+                shutdownLatency.add(shutdownEnd - start);
+                closeLatency.add(closeEnd - shutdownEnd);
+            }
+
+            logBenchmark("shutdown." + pattern, "inflight=%d: shutdown(%s), close(%s), closeError=%d", size, shutdownLatency, closeLatency, closeError);
+            if (shutdownType == TgSessionShutdownType.GRACEFUL || (shutdownType == TgSessionShutdownType.NOTHING && closeShutdownType == TgSessionShutdownType.GRACEFUL)) {
+                double total = shutdownLatency.maxMillis() + closeLatency.maxMillis();
+                assertTrue(total < MAX_GRACEFUL_MILLIS, () -> String.format("GRACEFUL waited too long. pattern=%s, inflight=%d, %.3f ms", pattern, size, total));
+            }
+        }
+    }
+
+    @Test
+    void drain() throws Exception {
+        for (int size : INFLIGHT) {
+            var drainLatency = new BenchmarkLatency();
+            for (int i = 0; i < REPEAT; i++) {
+                try (var session = DbTestConnector.createSession("shutdown.drain", SESSION_TIMEOUT, TimeUnit.SECONDS, TgSessionShutdownType.NOTHING)) {
+                    var inFlight = startInFlight(session, size);
+
+                    long start = System.nanoTime();
+                    for (var result : inFlight.queryResultList) {
+                        result.close();
+                    }
+                    for (var result : inFlight.statementResultList) {
+                        result.close();
+                    }
+                    for (var transaction : inFlight.transactionList) {
+                        transaction.rollback();
+                        transaction.close();
+                    }
+                    drainLatency.add(System.nanoTime() - start);
+                }
+            }
+            logBenchmark("shutdown.drain", "inflight=%d: %s", size, drainLatency);
+        }
+    }
+
+    private static TgSessionShutdownType shutdownType(char c) {
+        switch (c) {
+        case 'N':
+            return TgSessionShutdownType.NOTHING;
+        case 'G':
+            return TgSessionShutdownType.GRACEFUL;
+        case 'F':
+            return TgSessionShutdownType.FORCEFUL;
+        default:
+            throw new AssertionError(c);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.test.util.TableMetadataCache;
+
+/**
+ * table metadata lookup benchmark (with and without {@link TableMetadataCache})
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbTableMetadataBenchmarkTest extends DbBenchmarkTester {
+
+    private static final String TABLE_PREFIX = "bench_meta_";
+    private static final int TABLE_SIZE = getBenchmarkProperty("tableMetadata.table", 20);
+    private static final int ATTEMPT_SIZE = getBenchmarkProperty("tableMetadata.attempt", 10_000);
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbTableMetadataBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            String tableName = TABLE_PREFIX + i;
+            dropTable(tableName);
+            executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, tableName), tableName);
+        }
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            dropTable(TABLE_PREFIX + i);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void findTableMetadata(boolean cache) throws Exception {
+        try (var session = createSession(cache)) {
+            var latency = new BenchmarkLatency();
+            for (int i = 0; i < ATTEMPT_SIZE; i++) {
+                String tableName = TABLE_PREFIX + (i % TABLE_SIZE);
+                long start = System.nanoTime();
+                assertTrue(session.findTableMetadata(tableName).isPresent());
+                latency.add(System.nanoTime() - start);
+            }
+            logResult("findTableMetadata", session, cache, latency);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void getTableNameList(boolean cache) throws Exception {
+        try (var session = createSession(cache)) {
+            var latency = new BenchmarkLatency();
+            for (int i = 0; i < ATTEMPT_SIZE; i++) {
+                long start = System.nanoTime();
+                assertTrue(session.getTableNameList().size() >= TABLE_SIZE);
+                latency.add(System.nanoTime() - start);
+            }
+            logResult("getTableNameList", session, cache, latency);
+        }
+    }
+
+    /**
+     * ORM-style access: resolve column list of every table before each query
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void resolveColumns(boolean cache) throws Exception {
+        try (var session = createSession(cache)) {
+            var latency = new BenchmarkLatency();
+            int loop = Math.max(1, ATTEMPT_SIZE / TABLE_SIZE);
+            for (int n = 0; n < loop; n++) {
+                long start = System.nanoTime();
+                for (var tableName : session.getTableNameList()) {
+                    if (tableName.startsWith(TABLE_PREFIX)) {
+                        session.findTableMetadata(tableName).get().getColumnList();
+                    }
+                }
+                latency.add(System.nanoTime() - start);
+            }
+            logResult("resolveColumns", session, cache, latency);
+        }
+    }
+
+    private static TsurugiSession createSession(boolean cache) throws IOException {
+        var session = DbTestConnector.createSession();
+        if (cache) {
+            TableMetadataCache.install(session, 1, TimeUnit.MINUTES);
+        }
+        return session;
+    }
+
+    private void logResult(String name, TsurugiSession session, boolean cache, BenchmarkLatency latency) {
+        logBenchmark(name, "cache=%s: %.1f ops/s, latency(%s)", cache, perSecond(latency.count(), latency.totalNanos()), latency);
+        TableMetadataCache.find(session).ifPresent(c -> {
+            logBenchmark(name, "cache hit=%d, miss=%d, hitRatio=%.3f", c.getHitCount(), c.getMissCount(), c.getHitRatio());
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.test.util.BatchTransactionStatusHelper;
+import com.tsurugidb.iceaxe.test.util.DbTestSessions;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * transaction status polling benchmark (one call per transaction versus {@link BatchTransactionStatusHelper})
+ *
+ * <p>
+ * {@code txStatus.transaction} transactions are kept open, at most {@code txStatus.perSession} per session (the number of concurrent transactions per session is limited). the status of all
+ * transactions is polled {@code txStatus.poll} times, as a monitoring dashboard does.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbTxStatusBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int[] TRANSACTION_SIZE = getBenchmarkPropertyList("txStatus.transaction", 10, 100, 500);
+    private static final int PER_SESSION = getBenchmarkProperty("txStatus.perSession", 100);
+    private static final int POLL = getBenchmarkProperty("txStatus.poll", 20);
+
+    private static class SessionTransactions {
+        final BatchTransactionStatusHelper helper = new BatchTransactionStatusHelper();
+        final List<TsurugiTransaction> transactionList = new ArrayList<>();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "single", "batch" })
+    void poll(String type) throws Exception {
+        for (int transactionSize : TRANSACTION_SIZE) {
+            poll(type, transactionSize);
+        }
+    }
+
+    private void poll(String type, int transactionSize) throws Exception {
+        try (var sessions = new DbTestSessions()) {
+            var list = new ArrayList<SessionTransactions>();
+            for (int i = 0; i < transactionSize; i += PER_SESSION) {
+                var st = new SessionTransactions();
+                var session = sessions.createSession();
+                session.setTransactionStatusHelper(st.helper);
+                for (int j = i; j < Math.min(i + PER_SESSION, transactionSize); j++) {
+                    var transaction = session.createTransaction(TgTxOption.ofOCC().label("txStatus"));
+                    transaction.getLowTransaction();
+                    st.transactionList.add(transaction);
+                }
+                list.add(st);
+            }
+
+            var latency = new BenchmarkLatency();
+            for (int i = 0; i <= POLL; i++) { // first poll is warm-up
+                long start = System.nanoTime();
+                int count = 0;
+                for (var st : list) {
+                    if (type.equals("batch")) {
+                        for (var status : st.helper.getTransactionStatusList(st.transactionList)) {
+                            assertTrue(status.isNormal());
+                            count++;
+                        }
+                    } else {
+                        for (var transaction : st.transactionList) {
+                            assertTrue(transaction.getTransactionStatus().isNormal());
+                            count++;
+                        }
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                assertEquals(transactionSize, count);
+                if (i != 0) {
+                    latency.add(elapsed);
+                }
+            }
+
+            logBenchmark("txStatus." + type, "transaction=%d, session=%d: poll(%s), %.1f us/transaction", transactionSize, list.size(), latency, //
+                    latency.averageMillis() * 1000 / transactionSize);
+
+            for (var st : list) {
+                for (var transaction : st.transactionList) {
+                    transaction.close();
+                }
+            }
+        }
+    }
+}
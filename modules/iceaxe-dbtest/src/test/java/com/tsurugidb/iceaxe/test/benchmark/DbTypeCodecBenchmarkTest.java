@@ -0,0 +1,252 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.RelationCursor;
+import com.tsurugidb.tsubakuro.sql.io.StreamBackedValueInput;
+import com.tsurugidb.tsubakuro.sql.io.StreamBackedValueOutput;
+import com.tsurugidb.tsubakuro.sql.io.ValueInputBackedRelationCursor;
+import com.tsurugidb.tsubakuro.sql.io.ValueOutput;
+
+/**
+ * bind encoding and result decoding benchmark per data type
+ *
+ * <ul>
+ * <li>live: insert with bind parameter and select with {@link TgResultMapping#ofSingle(Class)} against the server. both are full round trips including network and server, so they do
+ * not isolate the bind encoding cost (see offline for that).</li>
+ * <li>offline: bind encoding by {@code TgBindParameter.toLowParameter()}, and result decoding by {@link ValueInputBackedRelationCursor}. no server access. the result set bytes are not captured
+ * from a server response; they are generated by {@link StreamBackedValueOutput} (the encoder of the same wire format).</li>
+ * </ul>
+ * <p>
+ * the first round is warm-up and is not reported. BOOLEAN is offline only because there is no boolean column type. BLOB/CLOB are not covered because they are transferred out of the result set.
+ * BIT/BIT VARYING are not covered because they are not supported as column types by the server. the decoded values of offline are folded into a checksum, so that the decoding is not eliminated as dead code.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbTypeCodecBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int LIVE_SIZE = getBenchmarkProperty("typeCodec.record", 10000);
+    private static final int OFFLINE_SIZE = getBenchmarkProperty("typeCodec.offlineRecord", 100000);
+    private static final int ROUND = getBenchmarkProperty("typeCodec.round", 5);
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Tokyo");
+
+    @FunctionalInterface
+    private interface ValueWriter<T> {
+        void write(ValueOutput output, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(RelationCursor cursor) throws IOException, ServerException, InterruptedException;
+    }
+
+    private static class TypeCase<T> {
+        final String sqlType; // null: not supported by server
+        final Function<String, TgBindVariable<T>> variableFactory;
+        final TgResultMapping<?> resultMapping;
+        final IntFunction<T> generator;
+        final ValueWriter<T> writer;
+        final ValueReader reader;
+
+        TypeCase(String sqlType, Function<String, TgBindVariable<T>> variableFactory, TgResultMapping<?> resultMapping, IntFunction<T> generator, ValueWriter<T> writer, ValueReader reader) {
+            this.sqlType = sqlType;
+            this.variableFactory = variableFactory;
+            this.resultMapping = resultMapping;
+            this.generator = generator;
+            this.writer = writer;
+            this.reader = reader;
+        }
+    }
+
+    private static final Map<String, TypeCase<?>> CASE_MAP = new LinkedHashMap<>();
+    static {
+        CASE_MAP.put("INT", new TypeCase<Integer>("int", TgBindVariable::ofInt, TgResultMapping.ofSingle(Integer.class), //
+                i -> i * 31, (out, v) -> out.writeInt(v), RelationCursor::fetchInt4Value));
+        CASE_MAP.put("LONG", new TypeCase<Long>("bigint", TgBindVariable::ofLong, TgResultMapping.ofSingle(Long.class), //
+                i -> i * 1_000_000_007L, (out, v) -> out.writeInt(v), RelationCursor::fetchInt8Value));
+        CASE_MAP.put("FLOAT", new TypeCase<Float>("real", TgBindVariable::ofFloat, TgResultMapping.ofSingle(Float.class), //
+                i -> i / 7f, (out, v) -> out.writeFloat4(v), RelationCursor::fetchFloat4Value));
+        CASE_MAP.put("DOUBLE", new TypeCase<Double>("double", TgBindVariable::ofDouble, TgResultMapping.ofSingle(Double.class), //
+                i -> i / 7d, (out, v) -> out.writeFloat8(v), RelationCursor::fetchFloat8Value));
+        CASE_MAP.put("DECIMAL(18,0)", decimalCase(18, 0));
+        CASE_MAP.put("DECIMAL(18,2)", decimalCase(18, 2));
+        CASE_MAP.put("DECIMAL(38,10)", decimalCase(38, 10));
+        CASE_MAP.put("CHAR(20)", new TypeCase<String>("char(20)", TgBindVariable::ofString, TgResultMapping.ofSingle(String.class), //
+                i -> Integer.toString(i), (out, v) -> out.writeCharacter(String.format("%-20s", v)), RelationCursor::fetchCharacterValue));
+        CASE_MAP.put("VARCHAR(20)", new TypeCase<String>("varchar(20)", TgBindVariable::ofString, TgResultMapping.ofSingle(String.class), //
+                i -> Integer.toString(i), (out, v) -> out.writeCharacter(v), RelationCursor::fetchCharacterValue));
+        CASE_MAP.put("VARBINARY(32)", new TypeCase<byte[]>("varbinary(32)", TgBindVariable::ofBytes, TgResultMapping.ofSingle(byte[].class), //
+                DbTypeCodecBenchmarkTest::bytes, (out, v) -> out.writeOctet(v), RelationCursor::fetchOctetValue));
+        CASE_MAP.put("BOOLEAN", new TypeCase<Boolean>(null, TgBindVariable::ofBoolean, null, //
+                i -> i % 2 == 0, (out, v) -> out.writeInt(v ? 1 : 0), RelationCursor::fetchBooleanValue)); // boolean is transferred as int
+        CASE_MAP.put("DATE", new TypeCase<LocalDate>("date", TgBindVariable::ofDate, TgResultMapping.ofSingle(LocalDate.class), //
+                i -> LocalDate.of(2024, 1, 1).plusDays(i % 100000), (out, v) -> out.writeDate(v), RelationCursor::fetchDateValue));
+        CASE_MAP.put("TIME", new TypeCase<LocalTime>("time", TgBindVariable::ofTime, TgResultMapping.ofSingle(LocalTime.class), //
+                i -> LocalTime.ofNanoOfDay(i * 1_000_003L), (out, v) -> out.writeTimeOfDay(v), RelationCursor::fetchTimeOfDayValue));
+        CASE_MAP.put("TIMESTAMP", new TypeCase<LocalDateTime>("timestamp", TgBindVariable::ofDateTime, TgResultMapping.ofSingle(LocalDateTime.class), //
+                DbTypeCodecBenchmarkTest::dateTime, (out, v) -> out.writeTimePoint(v), RelationCursor::fetchTimePointValue));
+        CASE_MAP.put("TIME WITH TIME ZONE", new TypeCase<OffsetTime>("time with time zone", TgBindVariable::ofOffsetTime, TgResultMapping.ofSingle(OffsetTime.class), //
+                i -> OffsetTime.of(LocalTime.ofNanoOfDay(i * 1_000_003L), ZoneOffset.ofHours(9)), (out, v) -> out.writeTimeOfDayWithTimeZone(v), RelationCursor::fetchTimeOfDayWithTimeZoneValue));
+        CASE_MAP.put("TIMESTAMP WITH TIME ZONE", new TypeCase<OffsetDateTime>("timestamp with time zone", TgBindVariable::ofOffsetDateTime, TgResultMapping.ofSingle(OffsetDateTime.class), //
+                i -> OffsetDateTime.of(dateTime(i), ZoneOffset.ofHours(9)), (out, v) -> out.writeTimePointWithTimeZone(v), RelationCursor::fetchTimePointWithTimeZoneValue));
+        CASE_MAP.put("TIMESTAMP WITH TIME ZONE(Zoned)", new TypeCase<ZonedDateTime>("timestamp with time zone", TgBindVariable::ofZonedDateTime, //
+                TgResultMapping.of(record -> record.nextOffsetDateTime().atZoneSameInstant(ZONE)), //
+                i -> ZonedDateTime.of(dateTime(i), ZONE), (out, v) -> out.writeTimePointWithTimeZone(v.toOffsetDateTime()), //
+                cursor -> cursor.fetchTimePointWithTimeZoneValue().atZoneSameInstant(ZONE)));
+    }
+
+    private static TypeCase<BigDecimal> decimalCase(int precision, int scale) {
+        return new TypeCase<BigDecimal>("decimal(" + precision + "," + scale + ")", TgBindVariable::ofDecimal, TgResultMapping.ofSingle(BigDecimal.class), //
+                i -> BigDecimal.valueOf(i * 1_000_003L, scale), (out, v) -> out.writeDecimal(v), RelationCursor::fetchDecimalValue);
+    }
+
+    private static byte[] bytes(int i) {
+        var value = new byte[32];
+        for (int j = 0; j < value.length; j++) {
+            value[j] = (byte) (i + j);
+        }
+        return value;
+    }
+
+    private static LocalDateTime dateTime(int i) {
+        return LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i * 61L).plusNanos(i * 1_001L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "INT", "LONG", "FLOAT", "DOUBLE", "DECIMAL(18,0)", "DECIMAL(18,2)", "DECIMAL(38,10)", "CHAR(20)", "VARCHAR(20)", "VARBINARY(32)", "DATE", "TIME", "TIMESTAMP",
+            "TIME WITH TIME ZONE", "TIMESTAMP WITH TIME ZONE", "TIMESTAMP WITH TIME ZONE(Zoned)" })
+    void live(String typeName) throws Exception {
+        live(typeName, CASE_MAP.get(typeName));
+    }
+
+    private <T> void live(String typeName, TypeCase<T> typeCase) throws Exception {
+        dropTestTable();
+        executeDdl(getSession(), "create table " + TEST + "(pk int primary key, value " + typeCase.sqlType + ")");
+
+        var session = getSession();
+        var pk = TgBindVariable.ofInt("pk");
+        var value = typeCase.variableFactory.apply("value");
+        var insertSql = "insert or replace into " + TEST + " values(" + pk + ", " + value + ")";
+        var selectSql = "select value from " + TEST;
+        var parameterMapping = TgParameterMapping.of(pk, value);
+        var tm = createTransactionManagerOcc(session, "typeCodec", 3);
+        try (var selectPs = session.createQuery(selectSql, typeCase.resultMapping)) {
+            for (int round = 0; round < ROUND; round++) {
+                long start = System.nanoTime();
+                insertBulk(insertSql, parameterMapping, LIVE_SIZE, i -> TgBindParameters.of(pk.bind(i), value.bind(typeCase.generator.apply(i))));
+                long insertTime = System.nanoTime() - start; // includes prepare and round trip
+
+                start = System.nanoTime();
+                int[] count = { 0 };
+                tm.executeAndForEach(selectPs, v -> count[0]++);
+                long selectTime = System.nanoTime() - start;
+                assertEquals(LIVE_SIZE, count[0]);
+
+                if (round > 0) {
+                    logBenchmark("typeCodec.live", "%s round=%d: insert %.0f ns/row, select %.0f ns/row", //
+                            typeName, round, (double) insertTime / LIVE_SIZE, (double) selectTime / LIVE_SIZE);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "INT", "LONG", "FLOAT", "DOUBLE", "DECIMAL(18,0)", "DECIMAL(18,2)", "DECIMAL(38,10)", "CHAR(20)", "VARCHAR(20)", "VARBINARY(32)", "BOOLEAN", "DATE", "TIME",
+            "TIMESTAMP", "TIME WITH TIME ZONE", "TIMESTAMP WITH TIME ZONE", "TIMESTAMP WITH TIME ZONE(Zoned)" })
+    void offline(String typeName) throws Exception {
+        offline(typeName, CASE_MAP.get(typeName));
+    }
+
+    private <T> void offline(String typeName, TypeCase<T> typeCase) throws Exception {
+        var variable = typeCase.variableFactory.apply("value");
+        var values = new ArrayList<T>(OFFLINE_SIZE);
+        for (int i = 0; i < OFFLINE_SIZE; i++) {
+            values.add(typeCase.generator.apply(i));
+        }
+        byte[] resultSet = writeResultSet(typeCase, values); // encoder-generated (not captured from server)
+
+        int firstChecksum = 0;
+        for (int round = 0; round < ROUND; round++) {
+            long start = System.nanoTime();
+            long encodedSize = 0;
+            for (var v : values) {
+                var lowParameter = variable.bind(v).toLowParameter();
+                encodedSize += lowParameter.getSerializedSize();
+            }
+            long encodeTime = System.nanoTime() - start; // bind encoding only
+
+            start = System.nanoTime();
+            int count = 0;
+            int checksum = 0;
+            try (var cursor = new ValueInputBackedRelationCursor(new StreamBackedValueInput(new ByteArrayInputStream(resultSet)))) {
+                while (cursor.nextRow()) {
+                    cursor.nextColumn();
+                    checksum = 31 * checksum + hashCode(typeCase.reader.read(cursor));
+                    count++;
+                }
+            }
+            long decodeTime = System.nanoTime() - start;
+            assertEquals(OFFLINE_SIZE, count);
+            if (round == 0) {
+                firstChecksum = checksum;
+            } else {
+                assertEquals(firstChecksum, checksum);
+            }
+
+            if (round > 0) {
+                logBenchmark("typeCodec.offline", "%s round=%d: bind %.1f ns/value (%.1f bytes/value), result %.1f ns/value (%.1f bytes/value), checksum=%08x", //
+                        typeName, round, (double) encodeTime / OFFLINE_SIZE, (double) encodedSize / OFFLINE_SIZE, //
+                        (double) decodeTime / OFFLINE_SIZE, (double) resultSet.length / OFFLINE_SIZE, checksum);
+            }
+        }
+    }
+
+    private static int hashCode(Object value) {
+        if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) value);
+        }
+        return Objects.hashCode(value);
+    }
+
+    private static <T> byte[] writeResultSet(TypeCase<T> typeCase, Iterable<T> values) throws IOException {
+        var buffer = new ByteArrayOutputStream();
+        try (var output = new StreamBackedValueOutput(buffer)) {
+            for (var v : values) {
+                output.writeRowBegin(1);
+                typeCase.writer.write(output, v);
+            }
+            output.writeEndOfContents();
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * UNION / UNION ALL benchmark over partition tables
+ *
+ * <p>
+ * {@code union.partition} tables of {@code union.size} rows each. adjacent partitions share half of their keys, so UNION removes duplicates. time to first row is measured until the first record
+ * of TsurugiQueryResult is read. each query is marked by {@link #serverLog(org.slf4j.Logger, String)}.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbUnionBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int PARTITION = getBenchmarkProperty("union.partition", 8);
+    private static final int SIZE = getBenchmarkProperty("union.size", 125_000); // per partition
+    private static final int REPEAT = getBenchmarkProperty("union.repeat", 3);
+
+    private static final String PREFIX = "bench_union_";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbUnionBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        var variables = TgBindVariables.of().addInt("pk").addLong("k").addString("v");
+        for (int p = 0; p < PARTITION; p++) {
+            String tableName = PREFIX + p;
+            dropTable(tableName);
+            executeDdl(getSession(), "create table " + tableName + "(pk int primary key, k bigint, v varchar(20))", tableName);
+
+            long base = base(p);
+            var sql = "insert or replace into " + tableName + " values(" + variables.getSqlNames() + ")";
+            insertBulk(sql, TgParameterMapping.of(variables), SIZE, i -> TgBindParameters.of().addInt("pk", i).addLong("k", base + i).addString("v", Long.toString(base + i)));
+        }
+
+        logInitEnd(LOG, info);
+    }
+
+    /**
+     * the first key of the partition. half of the keys overlap with the next partition.
+     */
+    private static long base(int partition) {
+        return (long) partition * SIZE / 2;
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        for (int p = 0; p < PARTITION; p++) {
+            dropTable(PREFIX + p);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "union all", "union" })
+    void union(String union) throws Exception {
+        var sql = IntStream.range(0, PARTITION).mapToObj(p -> "select k, v from " + PREFIX + p).collect(Collectors.joining(" " + union + " "));
+        long expectedRows = union.equals("union all") ? (long) PARTITION * SIZE : base(PARTITION - 1) + SIZE; // keys are contiguous from 0
+
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("union")));
+        try (var ps = session.createQuery(sql, TgResultMapping.of(record -> record.nextLong()))) {
+            var firstRow = new BenchmarkLatency();
+            var total = new BenchmarkLatency();
+            for (int i = 0; i < REPEAT; i++) {
+                serverLog(LOG, "union start " + union);
+                long start = System.nanoTime();
+                long count = tm.execute(transaction -> {
+                    try (var result = transaction.executeQuery(ps)) {
+                        long n = 0;
+                        if (result.nextRecord().isPresent()) {
+                            firstRow.add(System.nanoTime() - start);
+                            n++;
+                        }
+                        while (result.nextRecord().isPresent()) {
+                            n++;
+                        }
+                        return n;
+                    }
+                });
+                total.add(System.nanoTime() - start);
+                serverLog(LOG, "union end " + union);
+                assertEquals(expectedRows, count);
+            }
+
+            logBenchmark("union." + union.replace(' ', '_'), "partition=%d, size=%d, rows=%d: firstRow(%s), total(%s), %.1f rows/s", PARTITION, SIZE, expectedRows, firstRow, total,
+                    perSecond(expectedRows * total.count(), total.totalNanos()));
+        }
+    }
+}
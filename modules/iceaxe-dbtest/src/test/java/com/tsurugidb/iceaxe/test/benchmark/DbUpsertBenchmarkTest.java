@@ -0,0 +1,196 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestSessions;
+import com.tsurugidb.iceaxe.test.util.TestEntity;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.manager.event.counter.TgTmSimpleCounter;
+import com.tsurugidb.iceaxe.transaction.manager.exception.TsurugiTmIOException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+
+/**
+ * upsert benchmark (insert or replace, insert if not exists, select then insert or update)
+ *
+ * <p>
+ * {@code upsert.hit} percent of the keys exist before the measurement. each thread writes {@code upsert.record} keys, and half of them overlap with the next thread so that concurrent writers conflict.
+ * one key is written per OCC transaction. in the manual upsert, an insert that loses the race to another thread fails with UNIQUE_CONSTRAINT_VIOLATION_EXCEPTION and is executed again as an update.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbUpsertBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int RECORD_SIZE = getBenchmarkProperty("upsert.record", 2000); // per thread
+    private static final int[] THREAD_SIZE = getBenchmarkPropertyList("upsert.thread", 1, 4, 16);
+    private static final int[] HIT_PERCENT = getBenchmarkPropertyList("upsert.hit", 0, 25, 50, 75, 100);
+
+    private static final String TABLE = "bench_upsert";
+
+    private static final String REPLACE = "REPLACE";
+    private static final String IF_NOT_EXISTS = "IF_NOT_EXISTS";
+    private static final String MANUAL = "MANUAL";
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(TABLE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { REPLACE, IF_NOT_EXISTS, MANUAL })
+    void upsert(String type) throws Exception {
+        for (int threadSize : THREAD_SIZE) {
+            for (int hit : HIT_PERCENT) {
+                int keySize = keySize(threadSize);
+                createTable(keySize, hit);
+                upsert(type, threadSize, hit);
+                assertEquals(keySize, selectCountFrom(TABLE));
+            }
+        }
+    }
+
+    private static int keySize(int threadSize) {
+        return RECORD_SIZE * (threadSize + 1) / 2;
+    }
+
+    private static int key(int threadNumber, int i, int keySize) {
+        return (threadNumber * RECORD_SIZE / 2 + i) % keySize;
+    }
+
+    private static void createTable(int keySize, int hit) throws IOException, InterruptedException {
+        dropTable(TABLE);
+        executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, TABLE), TABLE);
+        if (hit == 0) {
+            return;
+        }
+
+        // the n-th existing key is (n / hit) * 100 + n % hit
+        int existsSize = keySize / 100 * hit + Math.min(keySize % 100, hit);
+        var variable = TgBindVariable.ofInt("foo");
+        var sql = "insert or replace into " + TABLE + " values(" + variable + ", 0, 'old')";
+        insertBulk(sql, TgParameterMapping.of(variable), existsSize, n -> TgBindParameters.of(variable.bind(n / hit * 100 + n % hit)));
+    }
+
+    private void upsert(String type, int threadSize, int hit) throws Exception {
+        var counter = new TgTmSimpleCounter();
+        var uniqueRetry = new AtomicLong();
+        try (var sessions = new DbTestSessions()) {
+            var taskList = new ArrayList<Callable<Void>>(threadSize);
+            for (int i = 0; i < threadSize; i++) {
+                taskList.add(new UpsertTask(sessions.createSession(), type, i, keySize(threadSize), counter, uniqueRetry));
+            }
+
+            long start = System.nanoTime();
+            executeConcurrently(taskList);
+            long elapsed = System.nanoTime() - start;
+
+            int total = RECORD_SIZE * threadSize;
+            var count = counter.getCount();
+            long abort = count.retryCount() + uniqueRetry.get();
+            double abortRate = (double) abort / (count.transactionCount() + uniqueRetry.get());
+            logBenchmark("upsert." + type, "thread=%d, hit=%d%%: %.1f upserts/s, transaction=%d, retry=%d, uniqueRetry=%d, abortRate=%.4f", //
+                    threadSize, hit, perSecond(total, elapsed), count.transactionCount(), count.retryCount(), uniqueRetry.get(), abortRate);
+        }
+    }
+
+    private static class UpsertTask implements Callable<Void> {
+        private final TsurugiSession session;
+        private final String type;
+        private final int threadNumber;
+        private final int keySize;
+        private final TgTmSimpleCounter counter;
+        private final AtomicLong uniqueRetry;
+
+        public UpsertTask(TsurugiSession session, String type, int threadNumber, int keySize, TgTmSimpleCounter counter, AtomicLong uniqueRetry) {
+            this.session = session;
+            this.type = type;
+            this.threadNumber = threadNumber;
+            this.keySize = keySize;
+            this.counter = counter;
+            this.uniqueRetry = uniqueRetry;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            var tm = session.createTransactionManager(TgTmSetting.ofAlways(TgTxOption.ofOCC().label("upsert." + type)));
+            tm.addEventListener(counter);
+
+            switch (type) {
+            case REPLACE:
+                executeSql(tm, INSERT_SQL.replace("insert into", "insert or replace into"));
+                break;
+            case IF_NOT_EXISTS:
+                executeSql(tm, INSERT_SQL.replace("insert", "insert if not exists"));
+                break;
+            case MANUAL:
+                executeManual(tm);
+                break;
+            default:
+                throw new AssertionError(type);
+            }
+            return null;
+        }
+
+        private void executeSql(TsurugiTransactionManager tm, String sql) throws Exception {
+            try (var ps = session.createStatement(sql.replace(TEST, TABLE), INSERT_MAPPING)) {
+                for (int i = 0; i < RECORD_SIZE; i++) {
+                    tm.executeAndGetCount(ps, createEntity(i));
+                }
+            }
+        }
+
+        private void executeManual(TsurugiTransactionManager tm) throws Exception {
+            var foo = TgBindVariable.ofInt("foo");
+            var selectSql = "select foo from " + TABLE + " where foo=" + foo;
+            var bar = TgBindVariable.ofLong("bar");
+            var zzz = TgBindVariable.ofString("zzz");
+            var updateSql = "update " + TABLE + " set bar=" + bar + ", zzz=" + zzz + " where foo=" + foo;
+            try (var selectPs = session.createQuery(selectSql, TgParameterMapping.of(foo)); //
+                    var updatePs = session.createStatement(updateSql, INSERT_MAPPING); //
+                    var insertPs = session.createStatement(INSERT_SQL.replace(TEST, TABLE), INSERT_MAPPING)) {
+                for (int i = 0; i < RECORD_SIZE; i++) {
+                    var entity = createEntity(i);
+                    for (;;) {
+                        try {
+                            tm.execute(transaction -> {
+                                var found = transaction.executeAndFindRecord(selectPs, TgBindParameters.of(foo.bind(entity.getFoo())));
+                                if (found.isPresent()) {
+                                    transaction.executeAndGetCount(updatePs, entity);
+                                } else {
+                                    transaction.executeAndGetCount(insertPs, entity);
+                                }
+                            });
+                            break;
+                        } catch (TsurugiTmIOException e) {
+                            if (findDiagnosticCode(e) == SqlServiceCode.UNIQUE_CONSTRAINT_VIOLATION_EXCEPTION) {
+                                uniqueRetry.incrementAndGet();
+                                continue;
+                            }
+                            throw e;
+                        }
+                    }
+                }
+            }
+        }
+
+        private TestEntity createEntity(int i) {
+            int key = key(threadNumber, i, keySize);
+            return new TestEntity(key, threadNumber, "new" + threadNumber);
+        }
+    }
+}
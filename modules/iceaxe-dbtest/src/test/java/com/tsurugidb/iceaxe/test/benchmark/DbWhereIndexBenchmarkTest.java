@@ -0,0 +1,160 @@
+package com.tsurugidb.iceaxe.test.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * WHERE expression benchmark with and without secondary index
+ *
+ * <p>
+ * the same data is loaded into a table without index and a table with indexes on bar and zzz (an index can be created only on an empty table). index usage is read from the plan graph.
+ * expressions expected to use the index (equal, range) fail if the index scan is not chosen. the others are only reported.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = DbBenchmarkTester.BENCHMARK_PROPERTY, matches = "true")
+class DbWhereIndexBenchmarkTest extends DbBenchmarkTester {
+
+    private static final int SIZE = getBenchmarkProperty("whereIndex.size", 1_000_000);
+    private static final int REPEAT = getBenchmarkProperty("whereIndex.repeat", 5);
+
+    private static final String PLAIN = "bench_where_plain";
+    private static final String INDEXED = "bench_where_index";
+    private static final String INDEX_BAR = "idx_bench_where_bar";
+    private static final String INDEX_ZZZ = "idx_bench_where_zzz";
+
+    private static final long X = SIZE / 2;
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbWhereIndexBenchmarkTest.class);
+        logInitStart(LOG, info);
+
+        createTable(PLAIN, false);
+        createTable(INDEXED, true);
+
+        logInitEnd(LOG, info);
+    }
+
+    @AfterAll
+    static void afterAll() throws Exception {
+        dropTable(PLAIN);
+        dropTable(INDEXED);
+    }
+
+    private static void createTable(String tableName, boolean index) throws IOException, InterruptedException {
+        var session = getSession();
+        dropTable(tableName);
+        executeDdl(session, "create table " + tableName + "(pk int primary key, bar bigint, zzz varchar(20))", tableName);
+        if (index) {
+            executeDdl(session, "create index " + INDEX_BAR + " on " + tableName + " (bar)", tableName);
+            executeDdl(session, "create index " + INDEX_ZZZ + " on " + tableName + " (zzz)", tableName);
+        }
+
+        var variables = TgBindVariables.of().addInt("pk").addLong("bar").addString("zzz");
+        var sql = "insert or replace into " + tableName + " values(" + variables.getSqlNames() + ")";
+        insertBulk(sql, TgParameterMapping.of(variables), SIZE, i -> TgBindParameters.of().addInt("pk", i).addLong("bar", i).addString("zzz", zzz(i)));
+    }
+
+    private static String zzz(int i) {
+        return String.format("%08d", i);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "equal", "range", "between", "in", "likePrefix", "abs", "substring" })
+    void where(String name) throws Exception {
+        String where;
+        Boolean expectedIndex; // null: report only
+        long expectedRows;
+        switch (name) {
+        case "equal":
+            where = "bar = " + X;
+            expectedIndex = true;
+            expectedRows = 1;
+            break;
+        case "range":
+            where = "bar >= " + X + " and bar < " + (X + 1000);
+            expectedIndex = true;
+            expectedRows = 1000;
+            break;
+        case "between":
+            where = "bar between " + X + " and " + (X + 999);
+            expectedIndex = null;
+            expectedRows = 1000;
+            break;
+        case "in":
+            where = "bar in (" + X + ", " + (X + 10) + ", " + (X + 20) + ", " + (X + 30) + ", " + (X + 40) + ")";
+            expectedIndex = null;
+            expectedRows = 5;
+            break;
+        case "likePrefix":
+            where = "zzz like '" + zzz((int) X).substring(0, 5) + "%'";
+            expectedIndex = null;
+            expectedRows = 1000;
+            break;
+        case "abs":
+            where = "abs(bar) = " + X;
+            expectedIndex = null;
+            expectedRows = 1;
+            break;
+        case "substring":
+            where = "substring(zzz from 1 for 5) = '" + zzz((int) X).substring(0, 5) + "'";
+            expectedIndex = null;
+            expectedRows = 1000;
+            break;
+        default:
+            throw new AssertionError(name);
+        }
+
+        var plain = execute(PLAIN, name, where, expectedRows);
+        var indexed = execute(INDEXED, name, where, expectedRows);
+        logBenchmark("whereIndex." + name, "where %s: plain(%s), indexed(index=%s, %s)", where, plain.latency, indexed.indexUsed, indexed.latency);
+
+        if (expectedIndex != null) {
+            assertEquals(expectedIndex, indexed.indexUsed, () -> "index scan. where " + where + ", plan=" + indexed.plan);
+        }
+    }
+
+    private static class Result {
+        BenchmarkLatency latency = new BenchmarkLatency();
+        boolean indexUsed;
+        String plan;
+    }
+
+    private Result execute(String tableName, String name, String where, long expectedRows) throws Exception {
+        var session = getSession();
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("whereIndex." + name)));
+        var sql = "select pk from " + tableName + " where " + where;
+        try (var ps = session.createQuery(sql)) {
+            var result = new Result();
+            var metadata = ps.explain();
+            var graph = getPlanGraph(metadata).toString();
+            result.indexUsed = graph.contains("index=" + INDEX_BAR) || graph.contains("index=" + INDEX_ZZZ);
+            result.plan = getPlanShape(metadata);
+
+            for (int i = 0; i < REPEAT; i++) {
+                var count = new AtomicLong();
+                long start = System.nanoTime();
+                tm.executeAndForEach(ps, record -> count.incrementAndGet());
+                result.latency.add(System.nanoTime() - start);
+                assertEquals(expectedRows, count.get(), () -> tableName + " where " + where);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.tsurugidb.iceaxe.test.error;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.SessionAdmissionController;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.channel.common.connection.wire.impl.Link;
+
+/**
+ * multiplex select/insert with {@link SessionAdmissionController} test
+ */
+class DbErrorMultiplexAdmissionTest extends DbTestTableTester {
+
+    private static final int ATTEMPT_SIZE = Link.responseBoxSize() + 100;
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbErrorMultiplexAdmissionTest.class);
+        logInitStart(LOG, info);
+
+        dropTestTable();
+        createTestTable();
+        insertTestTable(1);
+
+        logInitEnd(LOG, info);
+    }
+
+    // same sizes as DbErrorMultiplexSelectTest.selectMultiN (which fails over 240 on IPC, over 280 on TCP).
+    // each thread holds its result open until the peak is reached, so only the controller bounds the concurrency.
+    @ParameterizedTest
+    @ValueSource(ints = { 240, 241, 255, 256, 300 })
+    void selectMultiN(int size) throws Exception {
+        var sql = "select * from " + TEST;
+        try (var session = DbTestConnector.createSession()) {
+            var controller = new SessionAdmissionController(session);
+            int expectedPeak = Math.min(size, controller.getPermits());
+            var inFlight = new AtomicInteger();
+            var maxInFlight = new AtomicInteger();
+
+            executeConcurrently(size, i -> {
+                controller.execute(s -> {
+                    var tm = s.createTransactionManager(TgTmSetting.of(TgTxOption.ofOCC()));
+                    try (var ps = s.createQuery(sql)) {
+                        tm.execute(transaction -> {
+                            @SuppressWarnings("unused")
+                            var result = transaction.executeQuery(ps);
+                            // result.close is called on transaction.close
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            try {
+                                long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                                while (maxInFlight.get() < expectedPeak && System.nanoTime() < end) {
+                                    TimeUnit.MILLISECONDS.sleep(1);
+                                }
+                            } finally {
+                                inFlight.decrementAndGet();
+                            }
+                        });
+                    }
+                    return null;
+                });
+            });
+
+            assertEquals(size, controller.getAdmittedCount());
+            assertEquals(0, controller.getTimeoutCount());
+            assertEquals(expectedPeak, maxInFlight.get());
+        }
+    }
+
+    @Test
+    void selectConcurrent() throws Exception {
+        var sql = "select * from " + TEST;
+        try (var session = DbTestConnector.createSession()) {
+            var controller = new SessionAdmissionController(session);
+            try (var ps = session.createQuery(sql)) {
+                executeConcurrently(ATTEMPT_SIZE, i -> {
+                    var list = controller.execute(s -> {
+                        var tm = s.createTransactionManager(TgTmSetting.of(TgTxOption.ofOCC()));
+                        return tm.executeAndGetList(ps);
+                    });
+                    assertEquals(1, list.size());
+                });
+            }
+            assertEquals(ATTEMPT_SIZE, controller.getAdmittedCount());
+            assertEquals(0, controller.getTimeoutCount());
+            LOG.info("permits={}, maxWait={}ms", controller.getPermits(), TimeUnit.NANOSECONDS.toMillis(controller.getMaxWaitNanos()));
+        }
+    }
+
+    @Test
+    void insertConcurrent() throws Exception {
+        var variables = TgBindVariables.of().addInt("foo").addLong("bar").addString("zzz");
+        var sql = "insert or replace into " + TEST + " values(" + variables.getSqlNames() + ")";
+        try (var session = DbTestConnector.createSession()) {
+            var controller = new SessionAdmissionController(session);
+            try (var ps = session.createStatement(sql, TgParameterMapping.of(variables))) {
+                executeConcurrently(ATTEMPT_SIZE, i -> {
+                    controller.execute(s -> {
+                        var tm = s.createTransactionManager(TgTmSetting.ofAlways(TgTxOption.ofOCC()));
+                        var parameter = TgBindParameters.of().addInt("foo", 100 + i).addLong("bar", i).addString("zzz", Integer.toString(i));
+                        return tm.executeAndGetCount(ps, parameter);
+                    });
+                });
+            }
+            assertEquals(ATTEMPT_SIZE, controller.getAdmittedCount());
+        }
+        assertEquals(1 + ATTEMPT_SIZE, selectCountFromTest());
+    }
+
+    @Test
+    void timeout() throws Exception {
+        var controller = new SessionAdmissionController(getSession(), 1).setTimeout(100, TimeUnit.MILLISECONDS);
+        try (var permit = controller.acquire()) {
+            long start = System.nanoTime();
+            var e = assertThrowsExactly(IOException.class, () -> {
+                controller.acquire();
+            });
+            long elapsed = System.nanoTime() - start;
+            assertContains("admission timeout", e.getMessage());
+            assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertEquals(1, controller.getTimeoutCount());
+        }
+
+        // released
+        try (var permit = controller.acquire()) {
+            assertEquals(2, controller.getAdmittedCount());
+        }
+    }
+
+    @Test
+    void fairness() throws Exception {
+        int size = 8;
+        var controller = new SessionAdmissionController(getSession(), 1);
+        var orderList = new CopyOnWriteArrayList<Integer>();
+
+        var service = Executors.newFixedThreadPool(size);
+        try {
+            var futureList = new ArrayList<Future<?>>(size);
+            try (var permit = controller.acquire()) {
+                for (int i = 0; i < size; i++) {
+                    int n = i;
+                    futureList.add(service.submit(() -> {
+                        try (var p = controller.acquire()) {
+                            orderList.add(n);
+                        }
+                        return null;
+                    }));
+                    // wait until the request is queued, so that the order of the requests is fixed
+                    while (controller.getWaitingCount() < i + 1) {
+                        TimeUnit.MILLISECONDS.sleep(1);
+                    }
+                }
+            }
+            for (var future : futureList) {
+                future.get();
+            }
+        } finally {
+            service.shutdownNow();
+        }
+
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, orderList);
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int i) throws Exception;
+    }
+
+    private static void executeConcurrently(int size, Task task) throws Exception {
+        var service = Executors.newFixedThreadPool(size);
+        try {
+            List<Future<?>> futureList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int n = i;
+                futureList.add(service.submit(() -> {
+                    task.run(n);
+                    return null;
+                }));
+            }
+            for (var future : futureList) {
+                future.get();
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.tsurugidb.iceaxe.test.insert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.FixedDecimal;
+
+/**
+ * {@link FixedDecimal} insert test
+ */
+class DbInsertFixedDecimalTest extends DbTestTableTester {
+
+    @BeforeEach
+    void beforeEach(TestInfo info) throws Exception {
+        logInitStart(info);
+
+        dropTestTable();
+        createTable();
+
+        logInitEnd(info);
+    }
+
+    private static void createTable() throws IOException, InterruptedException {
+        var sql = "create table " + TEST //
+                + "(" //
+                + "  pk int primary key," //
+                + "  d0 decimal(18,0)," //
+                + "  d2 decimal(18,2)," //
+                + "  d18 decimal(18,18)" //
+                + ")";
+        executeDdl(getSession(), sql);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 127, 128, -128, -129, 32767, 32768, -32768, -32769, Integer.MAX_VALUE, Integer.MIN_VALUE, 999_999_999_999_999_999L, -999_999_999_999_999_999L })
+    void insert(long unscaledValue) throws Exception {
+        var pk = TgBindVariable.ofInt("pk");
+        var variables = TgBindVariables.of(pk, TgBindVariable.ofDecimal("d0"), TgBindVariable.ofDecimal("d2"), TgBindVariable.ofDecimal("d18"));
+        var insertSql = "insert into " + TEST + " values(" + variables.getSqlNames() + ")";
+
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+        try (var ps = session.createStatement(insertSql, TgParameterMapping.of(variables))) {
+            var parameter = TgBindParameters.of(pk.bind(1), //
+                    FixedDecimal.bind("d0", unscaledValue, 0), //
+                    FixedDecimal.bind("d2", unscaledValue, 2), //
+                    FixedDecimal.bind("d18", unscaledValue, 18));
+            int count = tm.executeAndGetCount(ps, parameter);
+            assertUpdateCount(1, count);
+        }
+
+        // generic BigDecimal result
+        var entity = tm.executeAndFindRecord("select * from " + TEST).get();
+        assertEquals(FixedDecimal.toBigDecimal(unscaledValue, 0), entity.getDecimal("d0"));
+        assertEquals(FixedDecimal.toBigDecimal(unscaledValue, 2), entity.getDecimal("d2"));
+        assertEquals(FixedDecimal.toBigDecimal(unscaledValue, 18), entity.getDecimal("d18"));
+
+        // unscaled long result
+        var selectSql = "select " + FixedDecimal.unscaledSelectExpression("d0", 0) + ", " + FixedDecimal.unscaledSelectExpression("d2", 2) + ", " + FixedDecimal.unscaledSelectExpression("d18", 18) + " from "
+                + TEST;
+        var selectMapping = TgResultMapping.of(record -> new long[] { record.nextLong(), record.nextLong(), record.nextLong() });
+        try (var ps = session.createQuery(selectSql, selectMapping)) {
+            var actual = tm.executeAndFindRecord(ps).get();
+            assertEquals(unscaledValue, actual[0]);
+            assertEquals(unscaledValue, actual[1]);
+            assertEquals(unscaledValue, actual[2]);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 123, -45678 })
+    void sameAsBigDecimal(long unscaledValue) throws Exception {
+        var pk = TgBindVariable.ofInt("pk");
+        var variable = TgBindVariable.ofDecimal("d2");
+        var insertSql = "insert into " + TEST + "(pk, d2) values(" + pk + ", " + variable + ")";
+        var mapping = TgParameterMapping.of(pk, variable);
+
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+        try (var ps = session.createStatement(insertSql, mapping)) {
+            tm.executeAndGetCount(ps, TgBindParameters.of(pk.bind(1), FixedDecimal.bind("d2", unscaledValue, 2)));
+            tm.executeAndGetCount(ps, TgBindParameters.of(pk.bind(2), variable.bind(BigDecimal.valueOf(unscaledValue, 2))));
+        }
+
+        var list = tm.executeAndGetList("select d2 from " + TEST + " order by pk");
+        assertEquals(2, list.size());
+        assertEquals(list.get(1).getDecimal("d2"), list.get(0).getDecimal("d2"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { Long.MIN_VALUE, Long.MAX_VALUE, 1_000_000_000_000_000_000L, -1_000_000_000_000_000_000L })
+    void exceedsPrecision(long unscaledValue) throws Exception {
+        var e = assertThrowsExactly(IllegalArgumentException.class, () -> {
+            FixedDecimal.bind("d2", unscaledValue, 2);
+        });
+        assertEqualsMessage("unscaledValue exceeds precision 18. unscaledValue=" + unscaledValue, e);
+    }
+}
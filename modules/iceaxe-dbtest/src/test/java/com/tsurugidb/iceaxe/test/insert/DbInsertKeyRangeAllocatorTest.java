@@ -0,0 +1,118 @@
+package com.tsurugidb.iceaxe.test.insert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestSessions;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.KeyRangeAllocator;
+import com.tsurugidb.iceaxe.test.util.TestEntity;
+
+/**
+ * {@link KeyRangeAllocator} test
+ */
+class DbInsertKeyRangeAllocatorTest extends DbTestTableTester {
+
+    private static final String KEY_NAME = TEST + ".foo";
+
+    @BeforeEach
+    void beforeEach(TestInfo info) throws Exception {
+        logInitStart(info);
+
+        dropTestTable();
+        createTestTable();
+        dropTable(KeyRangeAllocator.KEY_TABLE);
+        executeDdl(getSession(), KeyRangeAllocator.CREATE_KEY_TABLE_SQL, KeyRangeAllocator.KEY_TABLE);
+
+        logInitEnd(info);
+    }
+
+    @Test
+    void sequential() throws Exception {
+        try (var allocator = new KeyRangeAllocator(getSession(), KEY_NAME, 10)) {
+            for (int i = 0; i < 25; i++) {
+                assertEquals(i, allocator.nextKey());
+            }
+        }
+
+        // another allocator (e.g. after restart) continues from the high-water mark
+        try (var allocator2 = new KeyRangeAllocator(getSession(), KEY_NAME, 10)) {
+            assertEquals(30, allocator2.nextKey());
+        }
+    }
+
+    @Test
+    void illegalBlockSize() throws Exception {
+        var e = assertThrowsExactly(IllegalArgumentException.class, () -> {
+            new KeyRangeAllocator(getSession(), KEY_NAME, 0);
+        });
+        assertEqualsMessage("blockSize must be positive. blockSize=0", e);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 100 })
+    void multiSession(int blockSize) throws Exception {
+        int sessionSize = 4;
+        int threadSize = 3; // per session
+        int keySize = 200; // per thread
+
+        var keySet = ConcurrentHashMap.<Long>newKeySet();
+        try (var sessions = new DbTestSessions()) {
+            var allocatorList = new ArrayList<KeyRangeAllocator>(sessionSize);
+            var service = Executors.newCachedThreadPool();
+            try {
+                var futureList = new ArrayList<Future<?>>();
+                for (int s = 0; s < sessionSize; s++) {
+                    var session = sessions.createSession();
+                    var allocator = new KeyRangeAllocator(session, KEY_NAME, blockSize);
+                    allocatorList.add(allocator);
+                    for (int t = 0; t < threadSize; t++) {
+                        futureList.add(service.submit(() -> {
+                            var list = new ArrayList<TestEntity>(keySize);
+                            for (int i = 0; i < keySize; i++) {
+                                int key = allocator.nextIntKey();
+                                list.add(createTestEntity(key));
+                            }
+                            insertTestTable(list);
+                            list.forEach(entity -> keySet.add(entity.getFoo().longValue()));
+                            return null;
+                        }));
+                    }
+                }
+                for (var future : futureList) {
+                    future.get();
+                }
+            } finally {
+                service.shutdownNow();
+                for (var allocator : allocatorList) {
+                    allocator.close();
+                }
+            }
+        }
+
+        int expectedSize = sessionSize * threadSize * keySize;
+        assertEquals(expectedSize, keySet.size());
+        assertEquals(expectedSize, selectCountFromTest());
+
+        // every key is in the reserved range
+        var tm = createTransactionManagerOcc(getSession());
+        long highWater = tm.executeAndFindRecord("select high_water from " + KeyRangeAllocator.KEY_TABLE, TgResultMapping.ofSingle(long.class)).get();
+        assertEquals(sessionSize * threadSize * ((keySize + blockSize - 1) / blockSize) * blockSize, highWater);
+        for (long key : keySet) {
+            assertTrue(0 <= key && key < highWater, () -> "out of range. key=" + key);
+        }
+    }
+}
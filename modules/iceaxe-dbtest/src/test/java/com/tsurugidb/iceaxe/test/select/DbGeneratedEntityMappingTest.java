@@ -0,0 +1,139 @@
+package com.tsurugidb.iceaxe.test.select;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.EntityMappingGenerator;
+import com.tsurugidb.iceaxe.test.util.TestEntity;
+import com.tsurugidb.iceaxe.test.util.TestEntityMappings;
+
+/**
+ * {@link EntityMappingGenerator} test
+ */
+class DbGeneratedEntityMappingTest extends DbTestTableTester {
+
+    private static final int SIZE = 4;
+
+    @BeforeEach
+    void beforeEach(TestInfo info) throws Exception {
+        logInitStart(info);
+
+        dropTestTable();
+        createTestTable();
+
+        logInitEnd(info);
+    }
+
+    @Test
+    void generatedSourceIsUpToDate() throws Exception {
+        var generator = new EntityMappingGenerator(TestEntity.class, TEST_COLUMNS);
+        assertEquals(TEST_COLUMNS, generator.getColumnList().stream().map(EntityMappingGenerator.Column::getName).collect(Collectors.joining(", ")));
+
+        var file = generator.getFile(Path.of("src/test/java"));
+        var expected = Files.readString(file, StandardCharsets.UTF_8).replace("\r\n", "\n");
+        var actual = generator.generate().replace("\r\n", "\n");
+        assertEquals(expected, actual, "execute './gradlew generateEntityMapping'");
+    }
+
+    @SuppressWarnings("unused")
+    private static class UnsupportedEntity {
+        private Integer foo;
+        private Boolean flag;
+
+        public Integer getFoo() {
+            return foo;
+        }
+
+        public void setFoo(Integer foo) {
+            this.foo = foo;
+        }
+
+        public Boolean getFlag() {
+            return flag;
+        }
+
+        public void setFlag(Boolean flag) {
+            this.flag = flag;
+        }
+    }
+
+    @Test
+    void unsupportedType() {
+        var e = assertThrowsExactly(IllegalArgumentException.class, () -> {
+            new EntityMappingGenerator(UnsupportedEntity.class, "foo, flag");
+        });
+        assertEqualsMessage("unsupported property type. property=UnsupportedEntity.flag, type=java.lang.Boolean", e);
+    }
+
+    @Test
+    void columnOrder() {
+        var generator = new EntityMappingGenerator(TestEntity.class, "zzz, foo, bar");
+        assertEquals("zzz, foo, bar", generator.getColumnList().stream().map(EntityMappingGenerator.Column::getName).collect(Collectors.joining(", ")));
+    }
+
+    @Test
+    void columnMismatch() {
+        var e1 = assertThrowsExactly(IllegalArgumentException.class, () -> {
+            new EntityMappingGenerator(TestEntity.class, "foo, bar, zzz, qux");
+        });
+        assertEqualsMessage("column is not a property (or duplicated). entity=TestEntity, column=qux", e1);
+
+        var e2 = assertThrowsExactly(IllegalArgumentException.class, () -> {
+            new EntityMappingGenerator(TestEntity.class, "foo, bar, foo");
+        });
+        assertEqualsMessage("column is not a property (or duplicated). entity=TestEntity, column=foo", e2);
+
+        var e3 = assertThrowsExactly(IllegalArgumentException.class, () -> {
+            new EntityMappingGenerator(TestEntity.class, "foo, zzz");
+        });
+        assertEqualsMessage("property is not in columns. entity=TestEntity, columns=[bar]", e3);
+    }
+
+    @Test
+    void insertSelect() throws Exception {
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+
+        var insertSql = "insert into " + TEST + "(" + TestEntityMappings.COLUMNS + ") values(" + TestEntityMappings.VARIABLES.getSqlNames() + ")";
+        try (var ps = session.createStatement(insertSql, TestEntityMappings.PARAMETER_MAPPING)) {
+            tm.execute(transaction -> {
+                for (int i = 0; i < SIZE; i++) {
+                    transaction.executeAndGetCount(ps, createTestEntity(i));
+                }
+                transaction.executeAndGetCount(ps, new TestEntity(SIZE, null, null));
+                return;
+            });
+        }
+
+        var selectSql = "select " + TestEntityMappings.COLUMNS + " from " + TEST + " order by foo";
+        try (var ps = session.createQuery(selectSql, TestEntityMappings.RESULT_MAPPING)) {
+            var actualList = tm.executeAndGetList(ps);
+            assertEquals(SIZE + 1, actualList.size());
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(createTestEntity(i), actualList.get(i));
+            }
+            var nullEntity = actualList.get(SIZE);
+            assertEquals(SIZE, nullEntity.getFoo());
+            assertNull(nullEntity.getBar());
+            assertNull(nullEntity.getZzz());
+        }
+
+        // same as hand-built mapping
+        try (var ps = session.createQuery(selectSql, SELECT_MAPPING)) {
+            var expectedList = tm.executeAndGetList(ps);
+            var actualList = tm.executeAndGetList(selectSql, TestEntityMappings.RESULT_MAPPING);
+            assertEquals(expectedList, actualList);
+        }
+    }
+}
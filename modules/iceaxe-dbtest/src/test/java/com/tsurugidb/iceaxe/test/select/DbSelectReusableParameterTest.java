@@ -0,0 +1,137 @@
+package com.tsurugidb.iceaxe.test.select;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.ReusableBindParameters;
+
+/**
+ * {@link ReusableBindParameters} test
+ */
+class DbSelectReusableParameterTest extends DbTestTableTester {
+
+    private static final int SIZE = 100;
+
+    @BeforeEach
+    void beforeEach(TestInfo info) throws Exception {
+        logInitStart(info);
+
+        dropTestTable();
+        createTestTable();
+        insertTestTable(SIZE);
+
+        logInitEnd(info);
+    }
+
+    @Test
+    void select() throws Exception {
+        var parameter = ReusableBindParameters.of().addInt("foo");
+        var sql = SELECT_SQL + " where foo=" + parameter.getSqlNames();
+        int fooIndex = parameter.indexOf("foo");
+
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+        try (var ps = session.createQuery(sql, parameter.getParameterMapping(), SELECT_MAPPING)) {
+            tm.execute(transaction -> {
+                for (int i = 0; i < SIZE; i++) {
+                    parameter.set(fooIndex, i);
+                    var entity = transaction.executeAndFindRecord(ps, parameter).get();
+                    assertEquals(createTestEntity(i), entity);
+                }
+            });
+        }
+    }
+
+    @Test
+    void insertReset() throws Exception {
+        var parameter = ReusableBindParameters.of().addInt("foo").addLong("bar").addString("zzz");
+        var sql = "insert into " + TEST + "(" + TEST_COLUMNS + ") values(" + parameter.getSqlNames() + ")";
+
+        var session = getSession();
+        var tm = createTransactionManagerOcc(session);
+        try (var ps = session.createStatement(sql, parameter.getParameterMapping())) {
+            tm.execute(transaction -> {
+                parameter.set("foo", SIZE).set("bar", 123L).set("zzz", "abc");
+                transaction.executeAndGetCount(ps, parameter);
+
+                parameter.reset().set("foo", SIZE + 1);
+                transaction.executeAndGetCount(ps, parameter);
+            });
+        }
+
+        var entity = selectFromTest(SIZE);
+        assertEquals(123L, entity.getBar());
+        assertEquals("abc", entity.getZzz());
+
+        var resetEntity = selectFromTest(SIZE + 1);
+        assertNull(resetEntity.getBar());
+        assertNull(resetEntity.getZzz());
+    }
+
+    @Test
+    void illegalName() {
+        var parameter = ReusableBindParameters.of().addInt("foo");
+
+        var e1 = assertThrowsExactly(IllegalArgumentException.class, () -> parameter.addLong("foo"));
+        assertEqualsMessage("duplicate name. name=foo", e1);
+
+        var e2 = assertThrowsExactly(IllegalArgumentException.class, () -> parameter.set("bar", 1));
+        assertEqualsMessage("not found name. name=bar", e2);
+
+        var e3 = assertThrowsExactly(IllegalArgumentException.class, () -> parameter.set("foo", 1L));
+        assertEqualsMessage("type mismatch. name=foo, type=INT", e3);
+    }
+
+    @Test
+    void lowParameterCache() {
+        var parameter = ReusableBindParameters.of().addInt("foo").addString("zzz");
+        var mapping = parameter.getParameterMapping();
+
+        parameter.set("foo", 1).set("zzz", "abc");
+        var list1 = mapping.toLowParameterList(parameter, null);
+        assertEquals(1, list1.get(0).getInt4Value());
+        assertEquals("abc", list1.get(1).getCharacterValue());
+
+        // unchanged
+        parameter.set("foo", 1).set("zzz", "abc");
+        var list2 = mapping.toLowParameterList(parameter, null);
+        assertSame(list1.get(0), list2.get(0));
+        assertSame(list1.get(1), list2.get(1));
+
+        // changed
+        parameter.set("foo", 2);
+        var list3 = mapping.toLowParameterList(parameter, null);
+        assertNotSame(list1.get(0), list3.get(0));
+        assertEquals(2, list3.get(0).getInt4Value());
+        assertSame(list1.get(1), list3.get(1));
+    }
+
+    @Test
+    void placeholderAfterAdd() {
+        var parameter = ReusableBindParameters.of().addInt("foo");
+        var mapping = parameter.getParameterMapping();
+        assertEquals(1, mapping.toLowPlaceholderList().size());
+
+        parameter.addString("zzz");
+        var placeholderList = mapping.toLowPlaceholderList();
+        assertEquals(2, placeholderList.size());
+        assertEquals("zzz", placeholderList.get(1).getName());
+    }
+
+    @Test
+    void otherHolder() {
+        var parameter = ReusableBindParameters.of().addInt("foo");
+        var other = ReusableBindParameters.of().addInt("foo");
+
+        var e = assertThrowsExactly(IllegalArgumentException.class, () -> parameter.getParameterMapping().toLowParameterList(other, null));
+        assertEqualsMessage("parameter is not the owner of the mapping", e);
+    }
+}
@@ -0,0 +1,147 @@
+package com.tsurugidb.iceaxe.test.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.explain.TgStatementMetadata;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.PlanSnapshot;
+import com.tsurugidb.iceaxe.test.util.PlanSnapshotStore;
+
+/**
+ * explain plan regression test
+ *
+ * <p>
+ * the plan of representative queries is checked in two steps.
+ * </p>
+ * <ul>
+ * <li>structure: the node kind and the attribute which the query must use (e.g. find for a primary key, the index for an indexed column). this does not need golden files.</li>
+ * <li>golden file: the plan is compared with the golden file of {@link PlanSnapshotStore}. changes of scan type, join algorithm and exchange fail the test, other changes are only logged. golden
+ * files are written only with {@code -Pdbtest.plan.update=true} (to accept new plans); this step is skipped for a query without golden file.</li>
+ * </ul>
+ */
+class DbPlanSnapshotTest extends DbTestTableTester {
+
+    private static final int SIZE = 10;
+    private static final String TEST2 = "test2";
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbPlanSnapshotTest.class);
+        logInitStart(LOG, info);
+
+        dropTestTable();
+        dropTable(TEST2);
+        createTestTable();
+        executeDdl(getSession(), "create index idx_test_bar on " + TEST + " (bar)");
+        insertTestTable(SIZE);
+        executeDdl(getSession(), CREATE_TEST_SQL.replace(TEST, TEST2), TEST2);
+
+        logInitEnd(LOG, info);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = { //
+            "select_all    | scan |              | select * from test", //
+            "select_pk     | find |              | select * from test where foo = 1", //
+            "select_range  | scan |              | select * from test where foo >= 1 and foo < 5", //
+            "select_index  |      | idx_test_bar | select * from test where bar = 1", //
+            "order_limit   |      |              | select * from test order by bar limit 3", //
+            "group_by      |      |              | select bar, count(*) from test group by bar", //
+            "join          | join |              | select * from test t1 join test2 t2 on t1.foo = t2.foo", //
+            "join_index    | join |              | select * from test2 t2 join test t1 on t1.bar = t2.bar", //
+            "union_all     |      |              | select foo from test union all select foo from test2", //
+            "insert        |      |              | insert into test2 values(1, 1, 'a')", //
+            "update_pk     | find |              | update test set bar = 0 where foo = 1", //
+            "delete_pk     | find |              | delete from test where foo = 1", //
+            "insert_select | scan |              | insert into test2 select * from test where foo < 5", //
+    })
+    void plan(String name, String expectedKind, String expectedAttribute, String sql) throws Exception {
+        var session = getSession();
+        TgStatementMetadata metadata;
+        if (sql.startsWith("select")) {
+            try (var ps = session.createQuery(sql)) {
+                metadata = ps.explain();
+            }
+        } else {
+            try (var ps = session.createStatement(sql)) {
+                metadata = ps.explain();
+            }
+        }
+
+        var actual = PlanSnapshot.of(metadata);
+
+        // structure (without golden file)
+        if (expectedKind != null) {
+            assertTrue(actual.hasKind(expectedKind), () -> "node not found. name=" + name + ", kind=" + expectedKind + "\nactual:\n" + actual);
+        }
+        if (expectedAttribute != null) {
+            assertTrue(actual.hasAttributeValue(expectedAttribute), () -> "attribute not found. name=" + name + ", value=" + expectedAttribute + "\nactual:\n" + actual);
+        }
+
+        // golden file
+        var store = new PlanSnapshotStore();
+        assumeTrue(store.isUpdate() || store.exists(name), () -> "golden file not found. execute with -Pdbtest.plan.update=true. path=" + store.getPath(name));
+        var differenceList = store.verify(name, sql, actual);
+        for (var difference : differenceList) {
+            LOG.info("plan changed. name={}: {}", name, difference);
+        }
+
+        var significantList = differenceList.stream().filter(PlanSnapshot.Difference::isSignificant).collect(Collectors.toList());
+        assertTrue(significantList.isEmpty(), () -> "plan changed. name=" + name + ", golden=" + store.getPath(name) + "\n" //
+                + significantList.stream().map(Object::toString).collect(Collectors.joining("\n")) + "\nactual:\n" + actual);
+    }
+
+    @Test
+    void diff() {
+        var expected = PlanSnapshot.parse(List.of( //
+                "# select * from test where foo = 1", //
+                "0\tfind\t1\tsource=table\ttable=test\taccess=point", //
+                "1\temit\t-"));
+
+        // same
+        assertTrue(expected.diff(PlanSnapshot.parse(expected.format())).isEmpty());
+
+        // scan type changed
+        var scan = PlanSnapshot.parse(List.of( //
+                "0\tscan\t1\tsource=table\ttable=test\taccess=full-scan", //
+                "1\temit\t-"));
+        var scanDiff = expected.diff(scan);
+        assertEquals(4, scanDiff.size()); // -node, +node, -edge, +edge
+        assertTrue(scanDiff.stream().allMatch(PlanSnapshot.Difference::isSignificant));
+
+        // attribute of other node changed
+        var emit = PlanSnapshot.parse(List.of( //
+                "0\temit\t-\tx\\e=1", //
+                "1\tfind\t0\tsource=table\ttable=test\taccess=point"));
+        var emitDiff = expected.diff(emit);
+        assertFalse(emitDiff.isEmpty());
+        assertTrue(emitDiff.stream().filter(d -> d.toString().contains("node")).noneMatch(PlanSnapshot.Difference::isSignificant));
+        assertEquals(List.of("0\temit\t-\tx\\e=1", "1\tfind\t0\taccess=point\tsource=table\ttable=test"), emit.format());
+    }
+
+    @Test
+    void structure() {
+        var snapshot = PlanSnapshot.parse(List.of( //
+                "0\tscan\t1\tsource=table\ttable=test2", //
+                "1\tjoin_find\t2\tsource=index\ttable=test\tindex=idx_test_bar", //
+                "2\temit\t-"));
+        assertTrue(snapshot.hasKind("join"));
+        assertTrue(snapshot.hasKind("scan"));
+        assertFalse(snapshot.hasKind("find"));
+        assertTrue(snapshot.hasAttributeValue("idx_test_bar"));
+        assertFalse(snapshot.hasAttributeValue("idx_test_foo"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.tsurugidb.iceaxe.test.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.TableMetadataCache;
+
+/**
+ * {@link TableMetadataCache} test
+ */
+class DbTableMetadataCacheTest extends DbTestTableTester {
+
+    private static final String TEST2 = "test2";
+
+    @BeforeEach
+    void beforeEach(TestInfo info) throws Exception {
+        logInitStart(info);
+
+        dropTestTable();
+        dropTable(TEST2);
+        createTestTable();
+
+        logInitEnd(info);
+    }
+
+    @Test
+    void findTableMetadata() throws Exception {
+        try (var session = DbTestConnector.createSession()) {
+            var cache = TableMetadataCache.install(session, 1, TimeUnit.HOURS);
+
+            var metadata1 = session.findTableMetadata(TEST).get();
+            assertEquals(TEST, metadata1.getTableName());
+            assertEquals(0, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+
+            var metadata2 = session.findTableMetadata(TEST).get();
+            assertEquals(TEST, metadata2.getTableName());
+            assertEquals(metadata1.getColumnList().size(), metadata2.getColumnList().size());
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+            assertEquals(0.5, cache.getHitRatio());
+        }
+    }
+
+    @Test
+    void notFound() throws Exception {
+        try (var session = DbTestConnector.createSession()) {
+            var cache = TableMetadataCache.install(session, 1, TimeUnit.HOURS);
+
+            assertFalse(session.findTableMetadata(TEST2).isPresent());
+            assertFalse(session.findTableMetadata(TEST2).isPresent());
+            assertEquals(0, cache.getHitCount());
+            assertEquals(2, cache.getMissCount());
+        }
+    }
+
+    @Test
+    void ttl() throws Exception {
+        try (var session = DbTestConnector.createSession()) {
+            var cache = TableMetadataCache.install(session, 200, TimeUnit.MILLISECONDS);
+
+            session.findTableMetadata(TEST).get();
+            session.findTableMetadata(TEST).get();
+            assertEquals(1, cache.getHitCount());
+
+            TimeUnit.MILLISECONDS.sleep(300);
+
+            session.findTableMetadata(TEST).get();
+            assertEquals(1, cache.getHitCount());
+            assertEquals(2, cache.getMissCount());
+            assertEquals(1, cache.getExpireCount());
+        }
+    }
+
+    @Test
+    void invalidateByDdl() throws Exception {
+        try (var session = DbTestConnector.createSession()) {
+            var cache = TableMetadataCache.install(session, 1, TimeUnit.HOURS);
+
+            assertEquals(3, session.findTableMetadata(TEST).get().getColumnList().size());
+
+            executeDdl(session, "drop table " + TEST);
+            assertEquals(1, cache.getInvalidateCount());
+            assertFalse(session.findTableMetadata(TEST).isPresent());
+
+            executeDdl(session, "create table " + TEST + "(foo int primary key, bar bigint)");
+            assertEquals(2, cache.getInvalidateCount());
+            assertEquals(2, session.findTableMetadata(TEST).get().getColumnList().size());
+            assertEquals(0, cache.getHitCount());
+        }
+    }
+
+    @Test
+    void ddlFromOtherSession() throws Exception {
+        try (var session = DbTestConnector.createSession(); //
+                var otherSession = DbTestConnector.createSession()) {
+            var cache = TableMetadataCache.install(session, 1, TimeUnit.HOURS);
+
+            assertEquals(3, session.findTableMetadata(TEST).get().getColumnList().size());
+
+            // invalidation is session-local
+            executeDdl(otherSession, "drop table " + TEST);
+            executeDdl(otherSession, "create table " + TEST + "(foo int primary key, bar bigint)");
+            assertEquals(0, cache.getInvalidateCount());
+            assertEquals(3, session.findTableMetadata(TEST).get().getColumnList().size());
+
+            cache.invalidate(TEST);
+            assertEquals(2, session.findTableMetadata(TEST).get().getColumnList().size());
+        }
+    }
+
+    @Test
+    void getTableNameList() throws Exception {
+        try (var session = DbTestConnector.createSession()) {
+            var cache = TableMetadataCache.install(session, 1, TimeUnit.HOURS);
+
+            {
+                var list = session.getTableNameList();
+                assertTrue(list.contains(TEST));
+                assertFalse(list.contains(TEST2));
+                assertEquals(1, cache.getMissCount());
+            }
+            {
+                var list = session.getTableNameList();
+                assertTrue(list.contains(TEST));
+                assertEquals(1, cache.getHitCount());
+            }
+
+            executeDdl(session, CREATE_TEST_SQL.replace(TEST, TEST2));
+            {
+                var list = session.getTableNameList();
+                assertTrue(list.contains(TEST));
+                assertTrue(list.contains(TEST2));
+                assertEquals(2, cache.getMissCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.tsurugidb.iceaxe.test.timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.test.util.ReconnectingSession;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * server stop (reconnect) test
+ */
+public class DbServerStopReconnectTest extends DbTestTableTester {
+
+    private static final int SIZE = 4;
+    private static final int EXPECTED_DETECT = 1; // seconds
+    private static final int EXPECTED_RECOVER = 3; // seconds
+    private static final int STOP_COUNT = 5;
+    private static final int DOWN_TIME = 500; // milliseconds
+
+    @BeforeAll
+    static void beforeAll(TestInfo info) throws Exception {
+        var LOG = LoggerFactory.getLogger(DbServerStopReconnectTest.class);
+        logInitStart(LOG, info);
+
+        dropTestTable();
+        createTestTable();
+        insertTestTable(SIZE);
+
+        logInitEnd(LOG, info);
+    }
+
+    /**
+     * pipe servers. a stopped server cannot be restarted, so the restarted server is a new pipe server (another port).
+     */
+    private static class PipeServers implements Closeable {
+        private final List<PipeServerThtread> serverList = new ArrayList<>();
+        private volatile PipeServerThtread current;
+
+        public PipeServerThtread start() {
+            var server = new PipeServerThtread();
+            server.start();
+            serverList.add(server);
+            this.current = server;
+            return server;
+        }
+
+        public PipeServerThtread stop() throws IOException, InterruptedException {
+            var server = this.current;
+            server.close(); // server stop
+            server.join(); // the sockets are closed when the thread ends
+            return server;
+        }
+
+        public TsurugiSession createSession() throws IOException {
+            var sessionOption = TgSessionOption.of();
+            sessionOption.setTimeout(TgTimeoutKey.DEFAULT, EXPECTED_DETECT + 1, TimeUnit.SECONDS);
+            var session = current.getTsurugiConnector().createSession(sessionOption);
+            DbTestConnector.addSession(session);
+            return session;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (var server : serverList) {
+                server.close();
+            }
+        }
+    }
+
+    private static int count(TsurugiSession session) throws IOException, InterruptedException {
+        var tm = session.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX().label("reconnect")));
+        try (var ps = session.createQuery("select count(*) from " + TEST, TgResultMapping.ofSingle(int.class))) {
+            return tm.executeAndFindRecord(ps).get();
+        }
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void reconnect() throws Exception {
+        DbTestConnector.assumeEndpointTcp();
+
+        try (var servers = new PipeServers(); //
+                var session = new ReconnectingSession(servers::createSession)) {
+            servers.start();
+            assertEquals(SIZE, session.executeIdempotent(DbServerStopReconnectTest::count));
+
+            for (int i = 0; i < STOP_COUNT; i++) {
+                servers.stop();
+                long stopTime = System.nanoTime();
+                servers.start(); // restart immediately
+
+                var detectTime = new AtomicLong();
+                int count = session.executeIdempotent(s -> {
+                    try {
+                        return count(s);
+                    } catch (IOException e) {
+                        detectTime.compareAndSet(0, System.nanoTime());
+                        throw e;
+                    }
+                });
+                long recoverTime = System.nanoTime();
+                assertEquals(SIZE, count);
+
+                long detect = detectTime.get() - stopTime;
+                long recover = recoverTime - stopTime;
+                LOG.info("stop[{}] detect={}ms, recover={}ms", i, TimeUnit.NANOSECONDS.toMillis(detect), TimeUnit.NANOSECONDS.toMillis(recover));
+                assertTrue(detectTime.get() != 0, "lost connection not detected");
+                assertTrue(detect < TimeUnit.SECONDS.toNanos(EXPECTED_DETECT), () -> "detect=" + TimeUnit.NANOSECONDS.toMillis(detect) + "ms");
+                assertTrue(recover < TimeUnit.SECONDS.toNanos(EXPECTED_RECOVER), () -> "recover=" + TimeUnit.NANOSECONDS.toMillis(recover) + "ms");
+            }
+            assertEquals(STOP_COUNT, session.getReconnectCount());
+        }
+    }
+
+    private static int update(TsurugiSession session) throws IOException, InterruptedException, TsurugiTransactionException {
+        try (var ps = session.createStatement("update " + TEST + " set zzz = 'reconnect' where foo = 0"); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC().label("reconnect"))) {
+            int count = transaction.executeAndGetCount(ps);
+            transaction.commit(TgCommitType.DEFAULT);
+            return count;
+        }
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void reconnectTransaction() throws Exception {
+        DbTestConnector.assumeEndpointTcp();
+
+        try (var servers = new PipeServers(); //
+                var session = new ReconnectingSession(servers::createSession)) {
+            servers.start();
+            assertEquals(1, session.executeIdempotent(DbServerStopReconnectTest::update));
+
+            servers.stop();
+            servers.start();
+
+            // lost connection in the transaction (not through the transaction manager)
+            assertEquals(1, session.executeIdempotent(DbServerStopReconnectTest::update));
+            assertEquals(1, session.getReconnectCount());
+        }
+        assertEquals("reconnect", selectFromTest(0).getZzz());
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void reconnectWhileServerDown() throws Exception {
+        DbTestConnector.assumeEndpointTcp();
+
+        try (var servers = new PipeServers(); //
+                var session = new ReconnectingSession(servers::createSession)) {
+            servers.start();
+            assertEquals(SIZE, session.executeIdempotent(DbServerStopReconnectTest::count));
+
+            servers.stop();
+            long stopTime = System.nanoTime();
+            var restart = executeFuture(() -> {
+                TimeUnit.MILLISECONDS.sleep(DOWN_TIME);
+                return servers.start();
+            });
+
+            // connection refused until the server is restarted
+            int count = session.executeIdempotent(DbServerStopReconnectTest::count);
+            long recover = System.nanoTime() - stopTime;
+            restart.get();
+            assertEquals(SIZE, count);
+
+            LOG.info("down={}ms, recover={}ms, reconnect={}", DOWN_TIME, TimeUnit.NANOSECONDS.toMillis(recover), session.getReconnectCount());
+            assertTrue(recover >= TimeUnit.MILLISECONDS.toNanos(DOWN_TIME));
+            assertTrue(recover < TimeUnit.MILLISECONDS.toNanos(DOWN_TIME) + TimeUnit.SECONDS.toNanos(EXPECTED_RECOVER), () -> "recover=" + TimeUnit.NANOSECONDS.toMillis(recover) + "ms");
+        }
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void giveUp() throws Exception {
+        DbTestConnector.assumeEndpointTcp();
+
+        try (var servers = new PipeServers(); //
+                var session = new ReconnectingSession(servers::createSession)) {
+            session.setMaxAttempts(3).setBackoff(10, 100, TimeUnit.MILLISECONDS);
+            servers.start();
+            assertEquals(SIZE, session.executeIdempotent(DbServerStopReconnectTest::count));
+
+            servers.stop(); // not restarted
+            var e = assertThrows(IOException.class, () -> {
+                session.executeIdempotent(DbServerStopReconnectTest::count);
+            });
+            assertTrue(ReconnectingSession.isLostConnection(e), () -> e.toString());
+        }
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void notLostConnection() throws Exception {
+        DbTestConnector.assumeEndpointTcp();
+
+        try (var servers = new PipeServers(); //
+                var session = new ReconnectingSession(servers::createSession)) {
+            servers.start();
+
+            var e = assertThrows(IOException.class, () -> {
+                session.executeIdempotent(s -> {
+                    var tm = s.createTransactionManager(TgTmSetting.of(TgTxOption.ofRTX()));
+                    try (var ps = s.createQuery("select * from " + TEST + "_not_exists")) {
+                        return tm.executeAndGetList(ps);
+                    }
+                });
+            });
+            assertFalse(ReconnectingSession.isLostConnection(e), () -> e.toString());
+            assertEquals(0, session.getReconnectCount());
+
+            // the session is still usable
+            assertEquals(SIZE, session.executeIdempotent(DbServerStopReconnectTest::count));
+        }
+    }
+}
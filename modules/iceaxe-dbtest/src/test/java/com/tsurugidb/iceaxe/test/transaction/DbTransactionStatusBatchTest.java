@@ -0,0 +1,135 @@
+package com.tsurugidb.iceaxe.test.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import com.tsurugidb.iceaxe.test.util.BatchTransactionStatusHelper;
+import com.tsurugidb.iceaxe.test.util.DbTestConnector;
+import com.tsurugidb.iceaxe.test.util.DbTestTableTester;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.SqlServiceCode;
+import com.tsurugidb.tsubakuro.sql.TransactionStatus;
+
+/**
+ * {@link BatchTransactionStatusHelper} test
+ */
+class DbTransactionStatusBatchTest extends DbTestTableTester {
+
+    private static final int SIZE = 2;
+
+    @BeforeEach
+    void beforeEach(TestInfo info) throws Exception {
+        logInitStart(info);
+
+        dropTestTable();
+        createTestTable();
+        insertTestTable(SIZE);
+
+        logInitEnd(info);
+    }
+
+    @Test
+    void empty() throws Exception {
+        var helper = new BatchTransactionStatusHelper();
+        try (var session = DbTestConnector.createSession()) {
+            session.setTransactionStatusHelper(helper);
+
+            var statusList = helper.getTransactionStatusList(List.of());
+            assertTrue(statusList.isEmpty());
+        }
+    }
+
+    @Test
+    void normalAndError() throws Exception {
+        int size = 10;
+        var helper = new BatchTransactionStatusHelper();
+        try (var session = DbTestConnector.createSession()) {
+            session.setTransactionStatusHelper(helper);
+
+            var transactionList = new ArrayList<TsurugiTransaction>(size);
+            try (var ps = session.createStatement("insertinto " + TEST + " values(" + SIZE + ", 1, 'a')")) { // parse error
+                for (int i = 0; i < size; i++) {
+                    var transaction = session.createTransaction(TgTxOption.ofOCC());
+                    transactionList.add(transaction);
+                    if (i % 2 == 1) {
+                        var e = assertThrowsExactly(TsurugiTransactionException.class, () -> {
+                            transaction.executeAndGetCount(ps);
+                        });
+                        assertEqualsCode(SqlServiceCode.SYNTAX_EXCEPTION, e);
+                    }
+                }
+
+                var statusList = helper.getTransactionStatusList(transactionList);
+                assertEquals(size, statusList.size());
+                assertEquals(size, helper.getRequestCount());
+                assertEquals(size, helper.getPrefetchUsedCount());
+                for (int i = 0; i < size; i++) {
+                    var status = statusList.get(i);
+                    if (i % 2 == 1) {
+                        assertFalse(status.isNormal());
+                        assertEquals(SqlServiceCode.SYNTAX_EXCEPTION, status.getDiagnosticCode());
+                        assertEquals(TransactionStatus.ABORTED, status.getLowTransactionStatus());
+                    } else {
+                        assertTrue(status.isNormal());
+                        assertEquals(TransactionStatus.RUNNING, status.getLowTransactionStatus());
+                    }
+
+                    // same as single call
+                    var single = transactionList.get(i).getTransactionStatus();
+                    assertEquals(single.isNormal(), status.isNormal());
+                    assertEquals(single.getDiagnosticCode(), status.getDiagnosticCode());
+                }
+            } finally {
+                for (var transaction : transactionList) {
+                    transaction.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    void repeat() throws Exception {
+        var helper = new BatchTransactionStatusHelper();
+        try (var session = DbTestConnector.createSession()) {
+            session.setTransactionStatusHelper(helper);
+
+            try (var transaction1 = session.createTransaction(TgTxOption.ofOCC()); //
+                    var transaction2 = session.createTransaction(TgTxOption.ofLTX(TEST))) {
+                var transactionList = List.of(transaction1, transaction2);
+                for (int i = 0; i < 3; i++) {
+                    var statusList = helper.getTransactionStatusList(transactionList);
+                    for (var status : statusList) {
+                        assertTrue(status.isNormal());
+                    }
+                    assertEquals(2 * (i + 1), helper.getRequestCount());
+                    assertEquals(2 * (i + 1), helper.getPrefetchUsedCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    void helperNotSet() throws Exception {
+        var helper = new BatchTransactionStatusHelper();
+        try (var session = DbTestConnector.createSession(); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var e = assertThrowsExactly(IllegalStateException.class, () -> {
+                helper.getTransactionStatusList(List.of(transaction));
+            });
+            assertContains("transaction status helper is not set to the session.", e.getMessage());
+            assertEquals(1, helper.getRequestCount());
+            assertEquals(0, helper.getPrefetchUsedCount());
+        }
+    }
+}
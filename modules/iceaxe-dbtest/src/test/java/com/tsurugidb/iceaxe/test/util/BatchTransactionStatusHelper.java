@@ -0,0 +1,114 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.status.TgTxStatus;
+import com.tsurugidb.iceaxe.transaction.status.TsurugiTransactionStatusHelper;
+import com.tsurugidb.tsubakuro.sql.SqlServiceException;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * transaction status helper which checks many transactions at once
+ *
+ * <ul>
+ * <li>the server has no batch API for transaction status. {@link #getTransactionStatusList(List)} sends the requests of all transactions first (pipelined on the session), then waits for the
+ * responses. so the total wait is about one round trip instead of one round trip per transaction.</li>
+ * <li>the status of each transaction is created by {@link TsurugiTransaction#getTransactionStatus()} (same timeout and error handling as a single call).</li>
+ * <li>must be set to the session of the transactions by {@code session.setTransactionStatusHelper()}. otherwise the prefetched request is not used, and
+ * {@link #getTransactionStatusList(List)} throws {@link IllegalStateException}.</li>
+ * </ul>
+ */
+public class BatchTransactionStatusHelper extends TsurugiTransactionStatusHelper {
+    private static final Logger LOG = LoggerFactory.getLogger(BatchTransactionStatusHelper.class);
+
+    private final Map<Transaction, FutureResponse<SqlServiceException>> prefetchMap = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger prefetchUsedCount = new AtomicInteger();
+
+    /**
+     * get number of requests sent to the server.
+     *
+     * @return count
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * get number of prefetched requests used by the transaction status.
+     *
+     * @return count
+     */
+    public int getPrefetchUsedCount() {
+        return prefetchUsedCount.get();
+    }
+
+    /**
+     * get transaction status of transactions.
+     *
+     * @param transactionList transactions (of the sessions which use this helper)
+     * @return transaction status (same order as transactionList)
+     * @throws IOException          if an I/O error occurs
+     * @throws InterruptedException if interrupted
+     * @throws IllegalStateException if this helper is not set to the session of a transaction
+     */
+    public List<TgTxStatus> getTransactionStatusList(List<? extends TsurugiTransaction> transactionList) throws IOException, InterruptedException {
+        var lowTxList = new ArrayList<Transaction>(transactionList.size());
+        try {
+            // send all requests
+            for (var transaction : transactionList) {
+                var lowTx = transaction.getLowTransaction();
+                lowTxList.add(lowTx);
+                prefetchMap.put(lowTx, sendRequest(lowTx));
+            }
+
+            // receive responses
+            var statusList = new ArrayList<TgTxStatus>(transactionList.size());
+            for (int i = 0; i < transactionList.size(); i++) {
+                var transaction = transactionList.get(i);
+                statusList.add(transaction.getTransactionStatus());
+                if (prefetchMap.containsKey(lowTxList.get(i))) {
+                    throw new IllegalStateException("transaction status helper is not set to the session. transaction=" + transaction.getTransactionId());
+                }
+            }
+            return statusList;
+        } finally {
+            for (var lowTx : lowTxList) {
+                var future = prefetchMap.remove(lowTx);
+                if (future != null) { // not used (error or helper not set to the session)
+                    try {
+                        future.close();
+                    } catch (Exception e) {
+                        LOG.debug("prefetch future close error", e);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected FutureResponse<SqlServiceException> getLowSqlServiceException(Transaction lowTx) throws IOException {
+        var future = prefetchMap.remove(lowTx);
+        if (future != null) {
+            prefetchUsedCount.incrementAndGet();
+            return future;
+        }
+        return sendRequest(lowTx);
+    }
+
+    private FutureResponse<SqlServiceException> sendRequest(Transaction lowTx) throws IOException {
+        var future = super.getLowSqlServiceException(lowTx);
+        requestCount.incrementAndGet();
+        return future;
+    }
+}
@@ -312,6 +312,14 @@ public class DbTestTableTester {
     }
 
     protected static void executeDdl(TsurugiSession session, String sql, String tableName) throws IOException, InterruptedException {
+        try {
+            executeDdlMain(session, sql, tableName);
+        } finally {
+            TableMetadataCache.find(session).ifPresent(cache -> cache.invalidate(tableName));
+        }
+    }
+
+    private static void executeDdlMain(TsurugiSession session, String sql, String tableName) throws IOException, InterruptedException {
         boolean workaround = false;
         if (workaround) {
             executeDdlWorkaround(session, sql, tableName);
@@ -0,0 +1,305 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * generator of entity mapping class
+ *
+ * <p>
+ * generates {@code <Entity>Mappings} which has the parameter mapping and the result mapping of the entity. the columns are derived from the entity class by reflection at build time: each
+ * non-static field which has a getter and a setter is a property, and its column name is the field name in snake case. the column order is given explicitly (the order of the table, not the
+ * declaration order of the fields), and every property must be listed exactly once.
+ * </p>
+ * <p>
+ * the generated mappings extend {@code TgParameterMapping}/{@code TgResultMapping} directly. they call the getter/setter and build the low parameters by {@code Parameters.of()}, so there is
+ * no reflection, no name lookup, no lambda, and no {@code TgBindParameters} per row. primitive properties are not boxed; wrapper properties are unboxed once to build the parameter.
+ * </p>
+ * <p>
+ * usage: {@code ./gradlew generateEntityMapping}, or {@code EntityMappingGenerator <source dir> <entity class> <column names>}
+ * </p>
+ */
+public class EntityMappingGenerator {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    public static void main(String... args) throws IOException, ClassNotFoundException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("usage: EntityMappingGenerator <source dir> <entity class> <column names>");
+        }
+        var generator = new EntityMappingGenerator(Class.forName(args[1]), args[2]);
+        var file = generator.getFile(Path.of(args[0]));
+        Files.writeString(file, generator.generate(), StandardCharsets.UTF_8);
+    }
+
+    private static class TypeInfo {
+        final String typeName; // TgBindVariable.ofXxx, record.nextXxx
+        final String unbox; // method to get primitive value from wrapper (null: reference type)
+
+        TypeInfo(String typeName, String unbox) {
+            this.typeName = typeName;
+            this.unbox = unbox;
+        }
+    }
+
+    private static final Map<Class<?>, TypeInfo> TYPE_MAP = Map.ofEntries( //
+            Map.entry(int.class, new TypeInfo("Int", null)), //
+            Map.entry(Integer.class, new TypeInfo("Int", "intValue")), //
+            Map.entry(long.class, new TypeInfo("Long", null)), //
+            Map.entry(Long.class, new TypeInfo("Long", "longValue")), //
+            Map.entry(float.class, new TypeInfo("Float", null)), //
+            Map.entry(Float.class, new TypeInfo("Float", "floatValue")), //
+            Map.entry(double.class, new TypeInfo("Double", null)), //
+            Map.entry(Double.class, new TypeInfo("Double", "doubleValue")), //
+            Map.entry(BigDecimal.class, new TypeInfo("Decimal", null)), //
+            Map.entry(String.class, new TypeInfo("String", null)), //
+            Map.entry(byte[].class, new TypeInfo("Bytes", null)), //
+            Map.entry(LocalDate.class, new TypeInfo("Date", null)), //
+            Map.entry(LocalTime.class, new TypeInfo("Time", null)), //
+            Map.entry(LocalDateTime.class, new TypeInfo("DateTime", null)), //
+            Map.entry(OffsetTime.class, new TypeInfo("OffsetTime", null)), //
+            Map.entry(OffsetDateTime.class, new TypeInfo("OffsetDateTime", null)));
+
+    /**
+     * column of entity
+     */
+    public static class Column {
+
+        /**
+         * create column from field
+         *
+         * @param entityClass entity class
+         * @param field       field
+         * @return column
+         * @throws IllegalArgumentException if the type of the field is not supported, or the getter/setter is not found
+         */
+        public static Column of(Class<?> entityClass, Field field) {
+            String property = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+            var type = field.getType();
+            var typeInfo = TYPE_MAP.get(type);
+            if (typeInfo == null) {
+                throw new IllegalArgumentException("unsupported property type. property=" + entityClass.getSimpleName() + "." + field.getName() + ", type=" + type.getName());
+            }
+            try {
+                var getter = entityClass.getMethod("get" + property);
+                if (getter.getReturnType() != type) {
+                    throw new IllegalArgumentException("getter type mismatch. property=" + entityClass.getSimpleName() + "." + field.getName());
+                }
+                entityClass.getMethod("set" + property, type);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("getter/setter not found. property=" + entityClass.getSimpleName() + "." + field.getName(), e);
+            }
+            return new Column(toSnakeCase(field.getName()), property, type, typeInfo);
+        }
+
+        private static String toSnakeCase(String s) {
+            var sb = new StringBuilder(s.length() + 4);
+            for (char c : s.toCharArray()) {
+                if (Character.isUpperCase(c)) {
+                    sb.append('_').append(Character.toLowerCase(c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+
+        private final String name;
+        private final String property;
+        private final Class<?> type;
+        private final TypeInfo typeInfo;
+
+        private Column(String name, String property, Class<?> type, TypeInfo typeInfo) {
+            this.name = name;
+            this.property = property;
+            this.type = type;
+            this.typeInfo = typeInfo;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        String variable() {
+            return "TgBindVariable.of" + typeInfo.typeName + "(\"" + name + "\")";
+        }
+
+        String nextMethod() {
+            return "next" + typeInfo.typeName + (type.isPrimitive() ? "" : "OrNull");
+        }
+
+        String javaTypeName() {
+            return type.getSimpleName();
+        }
+
+        String localName() {
+            return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+        }
+
+        String lowParameter(String value) {
+            String name = "\"" + this.name + "\"";
+            if (type.isPrimitive()) {
+                return "Parameters.of(" + name + ", " + value + ")";
+            }
+            String v = (typeInfo.unbox != null) ? value + "." + typeInfo.unbox + "()" : value;
+            return "(" + value + " != null) ? Parameters.of(" + name + ", " + v + ") : Parameters.ofNull(" + name + ")";
+        }
+    }
+
+    private final String packageName;
+    private final String entityName;
+    private final List<Column> columnList;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param entityClass entity class
+     * @param columnNames column names in the order of the table (e.g. {@code "foo, bar, zzz"})
+     * @throws IllegalArgumentException if a column is not a property of the entity, or a property is not listed in the column names
+     */
+    public EntityMappingGenerator(Class<?> entityClass, String columnNames) {
+        this.packageName = entityClass.getPackageName();
+        this.entityName = entityClass.getSimpleName();
+
+        var propertyMap = new LinkedHashMap<String, Column>();
+        for (var field : entityClass.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+            var column = Column.of(entityClass, field);
+            propertyMap.put(column.getName(), column);
+        }
+
+        this.columnList = new ArrayList<>(propertyMap.size());
+        for (var name : columnNames.split(",")) {
+            var column = propertyMap.remove(name.trim());
+            if (column == null) {
+                throw new IllegalArgumentException("column is not a property (or duplicated). entity=" + entityClass.getSimpleName() + ", column=" + name.trim());
+            }
+            columnList.add(column);
+        }
+        if (!propertyMap.isEmpty()) {
+            throw new IllegalArgumentException("property is not in columns. entity=" + entityClass.getSimpleName() + ", columns=" + propertyMap.keySet());
+        }
+    }
+
+    public List<Column> getColumnList() {
+        return this.columnList;
+    }
+
+    public String getClassName() {
+        return entityName + "Mappings";
+    }
+
+    public Path getFile(Path sourceDir) {
+        return sourceDir.resolve(packageName.replace('.', '/')).resolve(getClassName() + ".java");
+    }
+
+    public String generate() {
+        var lines = new ArrayList<String>();
+        lines.add("package " + packageName + ";");
+        lines.add("");
+        var importSet = new TreeSet<String>(List.of("java.io.IOException", "java.util.List"));
+        columnList.stream().map(c -> c.type).filter(t -> !t.isPrimitive() && !t.isArray() && !t.getPackageName().equals("java.lang")).forEach(t -> importSet.add(t.getName()));
+        importSet.forEach(t -> lines.add("import " + t + ";"));
+        lines.add("");
+        lines.add("import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;");
+        lines.add("import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;");
+        lines.add("import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;");
+        lines.add("import com.tsurugidb.iceaxe.sql.result.TgResultMapping;");
+        lines.add("import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;");
+        lines.add("import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;");
+        lines.add("import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;");
+        lines.add("import com.tsurugidb.sql.proto.SqlRequest.Parameter;");
+        lines.add("import com.tsurugidb.sql.proto.SqlRequest.Placeholder;");
+        lines.add("import com.tsurugidb.tsubakuro.sql.Parameters;");
+        lines.add("");
+        lines.add("/**");
+        lines.add(" * mappings of {@link " + entityName + "}");
+        lines.add(" *");
+        lines.add(" * <p>");
+        lines.add(" * generated from {@link " + entityName + "} by {@link " + EntityMappingGenerator.class.getName() + "}. do not edit.");
+        lines.add(" * </p>");
+        lines.add(" */");
+        lines.add("public final class " + getClassName() + " {");
+        lines.add("");
+        lines.add("    /** column names (the order of {@link #RESULT_MAPPING}) */");
+        lines.add("    public static final String COLUMNS = \"" + String.join(", ", columnList.stream().map(Column::getName).toArray(String[]::new)) + "\";");
+        lines.add("");
+        lines.add("    /** bind variables */");
+        lines.add("    public static final TgBindVariables VARIABLES = TgBindVariables.of( //");
+        for (int i = 0; i < columnList.size(); i++) {
+            lines.add("            " + columnList.get(i).variable() + ((i < columnList.size() - 1) ? ", //" : ");"));
+        }
+        lines.add("");
+        lines.add("    private static final List<Placeholder> LOW_PLACEHOLDER_LIST = TgParameterMapping.of(VARIABLES).toLowPlaceholderList();");
+        lines.add("");
+        lines.add("    /** parameter mapping */");
+        lines.add("    public static final TgParameterMapping<" + entityName + "> PARAMETER_MAPPING = new ParameterMapping();");
+        lines.add("");
+        lines.add("    /** result mapping (columns must be selected in the order of {@link #COLUMNS}) */");
+        lines.add("    public static final TgResultMapping<" + entityName + "> RESULT_MAPPING = new ResultMapping();");
+        lines.add("");
+        lines.add("    private " + getClassName() + "() {");
+        lines.add("        // don't instantiate");
+        lines.add("    }");
+        lines.add("");
+        lines.add("    private static class ParameterMapping extends TgParameterMapping<" + entityName + "> {");
+        lines.add("");
+        lines.add("        @Override");
+        lines.add("        public List<Placeholder> toLowPlaceholderList() {");
+        lines.add("            return LOW_PLACEHOLDER_LIST;");
+        lines.add("        }");
+        lines.add("");
+        lines.add("        @Override");
+        lines.add("        public List<Parameter> toLowParameterList(" + entityName + " entity, IceaxeConvertUtil convertUtil) {");
+        for (var column : columnList) {
+            if (!column.type.isPrimitive()) {
+                lines.add("            " + column.javaTypeName() + " " + column.localName() + " = entity.get" + column.property + "();");
+            }
+        }
+        lines.add("            return List.of( //");
+        for (int i = 0; i < columnList.size(); i++) {
+            var column = columnList.get(i);
+            String value = column.type.isPrimitive() ? "entity.get" + column.property + "()" : column.localName();
+            lines.add("                    " + column.lowParameter(value) + ((i < columnList.size() - 1) ? ", //" : ");"));
+        }
+        lines.add("        }");
+        lines.add("    }");
+        lines.add("");
+        lines.add("    private static class ResultMapping extends TgResultMapping<" + entityName + "> {");
+        lines.add("");
+        lines.add("        @Override");
+        lines.add("        protected " + entityName + " convert(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {");
+        lines.add("            var entity = new " + entityName + "();");
+        for (var column : columnList) {
+            lines.add("            entity.set" + column.property + "(record." + column.nextMethod() + "());");
+        }
+        lines.add("            return entity;");
+        lines.add("        }");
+        lines.add("    }");
+        lines.add("}");
+
+        var sb = new StringBuilder();
+        for (var line : lines) {
+            sb.append(line).append(LINE_SEPARATOR);
+        }
+        return sb.toString();
+    }
+}
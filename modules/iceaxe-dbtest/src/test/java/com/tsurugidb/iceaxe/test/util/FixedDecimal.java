@@ -0,0 +1,141 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.math.BigDecimal;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameter;
+import com.tsurugidb.sql.proto.SqlCommon;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+
+/**
+ * fixed-scale decimal (DECIMAL(p,s), p &lt;= {@value #MAX_PRECISION}) carried as unscaled long
+ *
+ * <ul>
+ * <li>bind: {@link #bind(String, long, int)} builds the low parameter from the unscaled long directly (no BigDecimal/BigInteger). the unscaled bytes are wrapped without copy, and
+ * single-byte values are cached. the low {@link Parameter} itself is still built per bind, as every iceaxe bind parameter is.</li>
+ * <li>result: there is no client-side decode fast path. the result cursor always materializes BigDecimal for a decimal column. {@link #unscaledSelectExpression(String, int)} rewrites the
+ * select item to {@code cast(column * 10^scale as bigint)}, so the query executed changes and the server multiplies and casts every row.</li>
+ * </ul>
+ */
+public final class FixedDecimal {
+
+    /** max precision carried by long */
+    public static final int MAX_PRECISION = 18;
+
+    private static final long MAX_UNSCALED_VALUE = 999_999_999_999_999_999L;
+
+    private static final ByteString[] SINGLE_BYTE_CACHE = new ByteString[256];
+    static {
+        for (int i = 0; i < SINGLE_BYTE_CACHE.length; i++) {
+            SINGLE_BYTE_CACHE[i] = UnsafeByteOperations.unsafeWrap(new byte[] { (byte) (i + Byte.MIN_VALUE) });
+        }
+    }
+
+    /**
+     * bind parameter of {@link FixedDecimal}
+     *
+     * <p>
+     * uses the protected constructor of {@link TgBindParameter} (for subclasses), because the public factory {@code TgBindParameter.of(String, BigDecimal)} accepts BigDecimal only.
+     * </p>
+     */
+    public static class FixedDecimalBindParameter extends TgBindParameter {
+
+        protected FixedDecimalBindParameter(Parameter lowParameter) {
+            super(lowParameter);
+        }
+    }
+
+    private FixedDecimal() {
+        // don't instantiate
+    }
+
+    /**
+     * create bind parameter
+     *
+     * @param name          name of bind variable
+     * @param unscaledValue unscaled value
+     * @param scale         scale
+     * @return bind parameter
+     */
+    public static FixedDecimalBindParameter bind(String name, long unscaledValue, int scale) {
+        var lowParameter = Parameter.newBuilder().setName(name).setDecimalValue(toLowDecimal(unscaledValue, scale)).build();
+        return new FixedDecimalBindParameter(lowParameter);
+    }
+
+    /**
+     * convert to low decimal
+     *
+     * @param unscaledValue unscaled value
+     * @param scale         scale
+     * @return low decimal
+     */
+    public static SqlCommon.Decimal toLowDecimal(long unscaledValue, int scale) {
+        if (unscaledValue < -MAX_UNSCALED_VALUE || MAX_UNSCALED_VALUE < unscaledValue) {
+            throw new IllegalArgumentException("unscaledValue exceeds precision " + MAX_PRECISION + ". unscaledValue=" + unscaledValue);
+        }
+        if (scale < 0 || MAX_PRECISION < scale) {
+            throw new IllegalArgumentException("scale out of range. scale=" + scale);
+        }
+        return SqlCommon.Decimal.newBuilder() //
+                .setUnscaledValue(toUnscaledByteString(unscaledValue)) //
+                .setExponent(-scale) //
+                .build();
+    }
+
+    private static ByteString toUnscaledByteString(long value) {
+        if (Byte.MIN_VALUE <= value && value <= Byte.MAX_VALUE) {
+            return SINGLE_BYTE_CACHE[(int) value - Byte.MIN_VALUE];
+        }
+        return UnsafeByteOperations.unsafeWrap(toUnscaledBytes(value)); // the array is not modified after wrap
+    }
+
+    /**
+     * convert unscaled value to big-endian two's-complement bytes (same as {@link java.math.BigInteger#toByteArray()})
+     *
+     * @param value unscaled value
+     * @return bytes
+     */
+    static byte[] toUnscaledBytes(long value) {
+        int size = Long.BYTES;
+        while (size > 1) {
+            long upper = value >> ((size - 1) * Byte.SIZE - 1); // top byte and the sign bit of the next byte
+            if (upper != 0 && upper != -1) {
+                break;
+            }
+            size--;
+        }
+
+        var bytes = new byte[size];
+        for (int i = size - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>= Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    /**
+     * get SQL expression to select unscaled value as bigint (computed by the server for every row)
+     *
+     * @param column column name (DECIMAL(p,scale))
+     * @param scale  scale
+     * @return SQL expression
+     */
+    public static String unscaledSelectExpression(String column, int scale) {
+        if (scale == 0) {
+            return "cast(" + column + " as bigint)";
+        }
+        return "cast(" + column + " * " + BigDecimal.ONE.scaleByPowerOfTen(scale).toPlainString() + " as bigint)";
+    }
+
+    /**
+     * convert to BigDecimal
+     *
+     * @param unscaledValue unscaled value
+     * @param scale         scale
+     * @return value
+     */
+    public static BigDecimal toBigDecimal(long unscaledValue, int scale) {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+}
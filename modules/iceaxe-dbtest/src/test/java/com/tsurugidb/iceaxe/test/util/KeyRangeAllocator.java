@@ -0,0 +1,151 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableLong;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable.TgBindVariableString;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * client-side key allocator
+ *
+ * <ul>
+ * <li>reserves a disjoint key range (block) per thread. the high-water mark is persisted in {@value #KEY_TABLE} by a short OCC transaction.</li>
+ * <li>keys within a block are handed out without lock and without server access.</li>
+ * <li>keys are unique, but not contiguous (unused keys of a block are lost when the allocator is discarded).</li>
+ * <li>the statements to reserve a block are prepared once (at the first reservation) and closed by {@link #close()}.</li>
+ * </ul>
+ */
+public class KeyRangeAllocator implements AutoCloseable {
+
+    /** control table name */
+    public static final String KEY_TABLE = "key_range_allocator";
+
+    public static final String CREATE_KEY_TABLE_SQL = "create table " + KEY_TABLE //
+            + "(" //
+            + "  key_name varchar(100)," //
+            + "  high_water bigint," //
+            + "  primary key(key_name)" //
+            + ")";
+
+    private static final TgBindVariableString vName = TgBindVariable.ofString("key_name");
+    private static final TgBindVariableLong vSize = TgBindVariable.ofLong("size");
+
+    private static final String INIT_SQL = "insert if not exists into " + KEY_TABLE + "(key_name, high_water) values(" + vName + ", 0)";
+    private static final String UPDATE_SQL = "update " + KEY_TABLE + " set high_water = high_water + " + vSize + " where key_name=" + vName;
+    private static final String SELECT_SQL = "select high_water from " + KEY_TABLE + " where key_name=" + vName;
+
+    private static class Block {
+        long next;
+        long end;
+
+        Block(long start, long end) {
+            this.next = start;
+            this.end = end;
+        }
+    }
+
+    private final TsurugiSession session;
+    private final String keyName;
+    private final int blockSize;
+    private final TsurugiTransactionManager tm;
+    private final ThreadLocal<Block> threadBlock = new ThreadLocal<>();
+    private final TgBindParameters nameParameter;
+    private final TgBindParameters updateParameter;
+
+    private TsurugiSqlPreparedStatement<TgBindParameters> initPs;
+    private TsurugiSqlPreparedStatement<TgBindParameters> updatePs;
+    private TsurugiSqlPreparedQuery<TgBindParameters, Long> selectPs;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session   session (used to reserve a block)
+     * @param keyName   key name (row of {@value #KEY_TABLE})
+     * @param blockSize number of keys reserved at once
+     */
+    public KeyRangeAllocator(TsurugiSession session, String keyName, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive. blockSize=" + blockSize);
+        }
+        this.session = session;
+        this.keyName = keyName;
+        this.blockSize = blockSize;
+        this.tm = session.createTransactionManager(TgTmSetting.ofAlways(TgTxOption.ofOCC().label("KeyRangeAllocator." + keyName), 100));
+        this.nameParameter = TgBindParameters.of(vName.bind(keyName));
+        this.updateParameter = TgBindParameters.of(vName.bind(keyName), vSize.bind(blockSize));
+    }
+
+    public String getKeyName() {
+        return this.keyName;
+    }
+
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * get next key
+     *
+     * @return key
+     * @throws IOException          if an I/O error occurs while reserving a block
+     * @throws InterruptedException if interrupted while reserving a block
+     */
+    public long nextKey() throws IOException, InterruptedException {
+        var block = threadBlock.get();
+        if (block == null || block.next >= block.end) {
+            block = reserveBlock();
+            threadBlock.set(block);
+        }
+        return block.next++;
+    }
+
+    /**
+     * get next key as int
+     *
+     * @return key
+     * @throws IOException          if an I/O error occurs while reserving a block
+     * @throws InterruptedException if interrupted while reserving a block
+     */
+    public int nextIntKey() throws IOException, InterruptedException {
+        return Math.toIntExact(nextKey());
+    }
+
+    private Block reserveBlock() throws IOException, InterruptedException {
+        prepare();
+        long highWater = tm.execute(transaction -> {
+            transaction.executeAndGetCount(initPs, nameParameter);
+            transaction.executeAndGetCount(updatePs, updateParameter);
+            return transaction.executeAndFindRecord(selectPs, nameParameter).get();
+        });
+        return new Block(highWater - blockSize, highWater);
+    }
+
+    private synchronized void prepare() throws IOException {
+        if (this.selectPs != null) {
+            return;
+        }
+        this.initPs = session.createStatement(INIT_SQL, TgParameterMapping.of(vName));
+        this.updatePs = session.createStatement(UPDATE_SQL, TgParameterMapping.of(TgBindVariables.of(vSize, vName)));
+        this.selectPs = session.createQuery(SELECT_SQL, TgParameterMapping.of(vName), TgResultMapping.ofSingle(long.class));
+    }
+
+    @Override
+    public synchronized void close() throws IOException, InterruptedException {
+        try (var ps1 = initPs; var ps2 = updatePs; var ps3 = selectPs) {
+            this.initPs = null;
+            this.updatePs = null;
+            this.selectPs = null;
+        }
+    }
+}
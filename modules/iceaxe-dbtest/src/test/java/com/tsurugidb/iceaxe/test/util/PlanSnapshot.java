@@ -0,0 +1,301 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.tsurugidb.iceaxe.sql.explain.TgStatementMetadata;
+import com.tsurugidb.tsubakuro.explain.PlanGraph;
+import com.tsurugidb.tsubakuro.explain.PlanGraphException;
+import com.tsurugidb.tsubakuro.explain.PlanNode;
+
+/**
+ * canonical form of plan graph
+ *
+ * <ul>
+ * <li>one line per node: {@code id<TAB>kind<TAB>downstream ids<TAB>key=value...}. nodes are numbered in depth-first order from the nodes without upstream, sorted by kind and attributes, so that
+ * the same plan is always written in the same form.</li>
+ * <li>{@link #diff(PlanSnapshot)} compares nodes and edges (kind and attributes of both ends) as multisets, so that renumbering is not reported.</li>
+ * <li>a difference is significant if it concerns a node of {@link #SIGNIFICANT_KINDS} (scan type, join algorithm, exchange).</li>
+ * </ul>
+ */
+public class PlanSnapshot {
+
+    /** node kinds which affect performance */
+    public static final Set<String> SIGNIFICANT_KINDS = Set.of( //
+            "scan", "find", // scan type
+            "join", "join_find", "join_scan", // join algorithm
+            "forward", "group", "aggregate", "broadcast", "shuffle" // exchange
+    );
+
+    private static final String NO_DOWNSTREAM = "-";
+
+    private static class Node {
+        final String kind;
+        final Map<String, String> attributes;
+        final List<Integer> downstreamList = new ArrayList<>();
+
+        Node(String kind, Map<String, String> attributes) {
+            this.kind = kind;
+            this.attributes = new TreeMap<>(attributes);
+        }
+
+        String label() {
+            return kind + attributes;
+        }
+    }
+
+    /**
+     * difference of plan
+     */
+    public static class Difference {
+        private final String type;
+        private final String text;
+        private final boolean significant;
+
+        Difference(String type, String text, boolean significant) {
+            this.type = type;
+            this.text = text;
+            this.significant = significant;
+        }
+
+        public boolean isSignificant() {
+            return this.significant;
+        }
+
+        @Override
+        public String toString() {
+            return (significant ? "[significant] " : "") + type + " " + text;
+        }
+    }
+
+    /**
+     * create snapshot.
+     *
+     * @param metadata statement metadata
+     * @return snapshot
+     * @throws PlanGraphException if the plan graph is not available
+     */
+    public static PlanSnapshot of(TgStatementMetadata metadata) throws PlanGraphException {
+        return of(metadata.getLowPlanGraph());
+    }
+
+    /**
+     * create snapshot.
+     *
+     * @param graph plan graph
+     * @return snapshot
+     */
+    public static PlanSnapshot of(PlanGraph graph) {
+        Comparator<PlanNode> comparator = Comparator.comparing(PlanSnapshot::label);
+
+        var idMap = new IdentityHashMap<PlanNode, Integer>();
+        var orderList = new ArrayList<PlanNode>();
+        var rootList = graph.getNodes().stream().filter(node -> node.getUpstreams().isEmpty()).sorted(comparator).collect(Collectors.toList());
+        for (var root : rootList) {
+            visit(root, comparator, idMap, orderList);
+        }
+        graph.getNodes().stream().filter(node -> !idMap.containsKey(node)).sorted(comparator).forEach(node -> visit(node, comparator, idMap, orderList));
+
+        var snapshot = new PlanSnapshot();
+        for (var planNode : orderList) {
+            var node = new Node(planNode.getKind(), planNode.getAttributes());
+            planNode.getDownstreams().stream().map(idMap::get).sorted().forEach(node.downstreamList::add);
+            snapshot.nodeList.add(node);
+        }
+        return snapshot;
+    }
+
+    private static String label(PlanNode node) {
+        return node.getKind() + new TreeMap<>(node.getAttributes());
+    }
+
+    private static void visit(PlanNode node, Comparator<PlanNode> comparator, Map<PlanNode, Integer> idMap, List<PlanNode> orderList) {
+        if (idMap.containsKey(node)) {
+            return;
+        }
+        idMap.put(node, orderList.size());
+        orderList.add(node);
+        node.getDownstreams().stream().sorted(comparator).forEach(downstream -> visit(downstream, comparator, idMap, orderList));
+    }
+
+    /**
+     * parse snapshot.
+     *
+     * @param lines lines written by {@link #format()} (lines starting with '#' and empty lines are ignored)
+     * @return snapshot
+     */
+    public static PlanSnapshot parse(List<String> lines) {
+        var snapshot = new PlanSnapshot();
+        for (var line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            var fields = line.split("\t", -1);
+            if (fields.length < 3 || Integer.parseInt(fields[0]) != snapshot.nodeList.size()) {
+                throw new IllegalArgumentException("illegal plan snapshot line. line=" + line);
+            }
+            var attributes = new TreeMap<String, String>();
+            for (int i = 3; i < fields.length; i++) {
+                int n = fields[i].indexOf('=');
+                attributes.put(unescape(fields[i].substring(0, n)), unescape(fields[i].substring(n + 1)));
+            }
+            var node = new Node(unescape(fields[1]), attributes);
+            if (!fields[2].equals(NO_DOWNSTREAM)) {
+                for (var id : fields[2].split(",")) {
+                    node.downstreamList.add(Integer.valueOf(id));
+                }
+            }
+            snapshot.nodeList.add(node);
+        }
+        return snapshot;
+    }
+
+    private final List<Node> nodeList = new ArrayList<>();
+
+    /**
+     * format snapshot.
+     *
+     * @return lines
+     */
+    public List<String> format() {
+        var lines = new ArrayList<String>(nodeList.size());
+        for (int id = 0; id < nodeList.size(); id++) {
+            var node = nodeList.get(id);
+            var sb = new StringBuilder();
+            sb.append(id).append('\t').append(escape(node.kind)).append('\t');
+            if (node.downstreamList.isEmpty()) {
+                sb.append(NO_DOWNSTREAM);
+            } else {
+                sb.append(node.downstreamList.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            }
+            node.attributes.forEach((key, value) -> sb.append('\t').append(escape(key)).append('=').append(escape(value)));
+            lines.add(sb.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * whether the plan has a node of the kind.
+     *
+     * @param kindPrefix prefix of node kind (e.g. {@code "join"} matches join, join_find and join_scan)
+     * @return {@code true} if found
+     */
+    public boolean hasKind(String kindPrefix) {
+        return nodeList.stream().anyMatch(node -> node.kind.startsWith(kindPrefix));
+    }
+
+    /**
+     * whether an attribute of a node contains the value.
+     *
+     * @param value value (e.g. index name)
+     * @return {@code true} if found
+     */
+    public boolean hasAttributeValue(String value) {
+        return nodeList.stream().flatMap(node -> node.attributes.values().stream()).anyMatch(v -> v.contains(value));
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("=", "\\e");
+    }
+
+    private static String unescape(String s) {
+        var sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                switch (n) {
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'e':
+                    sb.append('=');
+                    break;
+                default:
+                    sb.append(n);
+                    break;
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * compare with actual plan.
+     *
+     * @param actual actual snapshot
+     * @return differences (empty if the structure is the same)
+     */
+    public List<Difference> diff(PlanSnapshot actual) {
+        var list = new ArrayList<Difference>();
+        diff("node", this.nodeCount(), actual.nodeCount(), list);
+        diff("edge", this.edgeCount(), actual.edgeCount(), list);
+        return list;
+    }
+
+    private static class Item {
+        final String text;
+        final boolean significant;
+        int count;
+
+        Item(String text, boolean significant) {
+            this.text = text;
+            this.significant = significant;
+        }
+    }
+
+    private Map<String, Item> nodeCount() {
+        var map = new TreeMap<String, Item>();
+        for (var node : nodeList) {
+            map.computeIfAbsent(node.label(), k -> new Item(k, isSignificant(node))).count++;
+        }
+        return map;
+    }
+
+    private Map<String, Item> edgeCount() {
+        var map = new TreeMap<String, Item>();
+        for (var node : nodeList) {
+            for (int id : node.downstreamList) {
+                var downstream = nodeList.get(id);
+                String text = node.label() + " -> " + downstream.label();
+                map.computeIfAbsent(text, k -> new Item(k, isSignificant(node) || isSignificant(downstream))).count++;
+            }
+        }
+        return map;
+    }
+
+    private static boolean isSignificant(Node node) {
+        return SIGNIFICANT_KINDS.contains(node.kind);
+    }
+
+    private static void diff(String name, Map<String, Item> expected, Map<String, Item> actual, List<Difference> list) {
+        var keys = new HashMap<String, Item>(expected);
+        actual.forEach(keys::putIfAbsent);
+        keys.keySet().stream().sorted().forEach(key -> {
+            var e = expected.get(key);
+            var a = actual.get(key);
+            int delta = ((a != null) ? a.count : 0) - ((e != null) ? e.count : 0);
+            var item = (e != null) ? e : a;
+            for (int i = 0; i < Math.abs(delta); i++) {
+                list.add(new Difference(((delta > 0) ? "+" : "-") + name, item.text, item.significant));
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return String.join("\n", format());
+    }
+}
@@ -0,0 +1,82 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * golden file store of {@link PlanSnapshot}
+ *
+ * <ul>
+ * <li>golden files are {@code <directory>/<name>.plan}. the directory is {@value #DIRECTORY_PROPERTY} (default {@value #DEFAULT_DIRECTORY}).</li>
+ * <li>golden files are written only when {@value #UPDATE_PROPERTY} is true. a missing golden file is an error of {@link #verify(String, String, PlanSnapshot)} (check {@link #exists(String)}
+ * first).</li>
+ * </ul>
+ */
+public class PlanSnapshotStore {
+    private static final Logger LOG = LoggerFactory.getLogger(PlanSnapshotStore.class);
+
+    public static final String DIRECTORY_PROPERTY = "tsurugi.dbtest.plan.dir";
+    public static final String DEFAULT_DIRECTORY = "src/test/resources/plan-snapshot";
+    public static final String UPDATE_PROPERTY = "tsurugi.dbtest.plan.update";
+
+    private final Path directory;
+    private final boolean update;
+
+    public PlanSnapshotStore() {
+        this(Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)), Boolean.getBoolean(UPDATE_PROPERTY));
+    }
+
+    public PlanSnapshotStore(Path directory, boolean update) {
+        this.directory = directory;
+        this.update = update;
+    }
+
+    public Path getPath(String name) {
+        return directory.resolve(name + ".plan");
+    }
+
+    public boolean isUpdate() {
+        return this.update;
+    }
+
+    public boolean exists(String name) {
+        return Files.exists(getPath(name));
+    }
+
+    /**
+     * compare with golden file.
+     *
+     * @param name   snapshot name
+     * @param sql    SQL (written to golden file as comment)
+     * @param actual actual snapshot
+     * @return differences (empty if the golden file is written)
+     * @throws IOException if an I/O error occurs (e.g. the golden file does not exist)
+     */
+    public List<PlanSnapshot.Difference> verify(String name, String sql, PlanSnapshot actual) throws IOException {
+        var path = getPath(name);
+        if (update) {
+            write(path, sql, actual);
+            return List.of();
+        }
+
+        var expected = PlanSnapshot.parse(Files.readAllLines(path, StandardCharsets.UTF_8));
+        return expected.diff(actual);
+    }
+
+    private static void write(Path path, String sql, PlanSnapshot snapshot) throws IOException {
+        var lines = new ArrayList<String>();
+        lines.add("# " + sql.replace('\n', ' '));
+        lines.addAll(snapshot.format());
+
+        Files.createDirectories(path.getParent());
+        Files.write(path, lines, StandardCharsets.UTF_8);
+        LOG.info("plan snapshot written. path={}", path);
+    }
+}
@@ -0,0 +1,185 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.channels.ClosedChannelException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+
+/**
+ * session wrapper which reconnects when the connection is lost
+ *
+ * <ul>
+ * <li>lost connection is detected by the error of the action itself ("lost connection", "socket is already closed", connection refused, closed channel), whether it is thrown as
+ * {@link IOException} or as {@link TsurugiTransactionException} (an action which uses a transaction directly). no heartbeat is sent.</li>
+ * <li>the session is re-established by {@link SessionFactory} with exponential backoff, up to {@code maxAttempts} times.</li>
+ * <li>{@link #executeIdempotent(SessionAction)} executes the action again on the new session. the action must be idempotent, because it may have been committed before the connection was lost.</li>
+ * <li>other errors (SQL errors etc.) are thrown as is.</li>
+ * </ul>
+ */
+public class ReconnectingSession implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ReconnectingSession.class);
+
+    private static final String LOST_CONNECTION = "lost connection";
+    private static final String SOCKET_CLOSED = "socket is already closed";
+
+    @FunctionalInterface
+    public interface SessionFactory {
+        TsurugiSession createSession() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface SessionAction<R> {
+        R execute(TsurugiSession session) throws IOException, InterruptedException, TsurugiTransactionException;
+    }
+
+    private final SessionFactory factory;
+    private int maxAttempts = 10;
+    private long initialBackoffMillis = 50;
+    private long maxBackoffMillis = 1000;
+
+    private TsurugiSession session;
+    private final AtomicInteger reconnectCount = new AtomicInteger();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param factory session factory (called for the first connection and for each reconnection)
+     */
+    public ReconnectingSession(SessionFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * set max attempts of one action (including the first execution).
+     *
+     * @param maxAttempts max attempts
+     * @return this
+     */
+    public ReconnectingSession setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive. maxAttempts=" + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * set backoff. the wait time is doubled for each attempt.
+     *
+     * @param initial initial wait time
+     * @param max     max wait time
+     * @param unit    time unit
+     * @return this
+     */
+    public ReconnectingSession setBackoff(long initial, long max, TimeUnit unit) {
+        this.initialBackoffMillis = unit.toMillis(initial);
+        this.maxBackoffMillis = unit.toMillis(max);
+        return this;
+    }
+
+    /**
+     * get number of sessions discarded by lost connection.
+     *
+     * @return count
+     */
+    public int getReconnectCount() {
+        return reconnectCount.get();
+    }
+
+    /**
+     * get current session (connect if not connected).
+     *
+     * @return session
+     * @throws IOException if an I/O error occurs while connecting
+     */
+    public synchronized TsurugiSession getSession() throws IOException {
+        if (this.session == null) {
+            this.session = factory.createSession();
+        }
+        return this.session;
+    }
+
+    /**
+     * execute idempotent action. reconnect and execute again if the connection is lost.
+     *
+     * @param <R>    result type
+     * @param action action
+     * @return result of action
+     * @throws IOException                 if the connection cannot be re-established or the action fails
+     * @throws InterruptedException        if interrupted while waiting
+     * @throws TsurugiTransactionException if the action fails in the transaction
+     */
+    public <R> R executeIdempotent(SessionAction<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 1;; attempt++) {
+            TsurugiSession current = null;
+            try {
+                current = getSession();
+                return action.execute(current);
+            } catch (IOException | TsurugiTransactionException e) {
+                if (!isLostConnection(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                LOG.debug("lost connection. attempt={}, backoff={}ms", attempt, backoff, e);
+                invalidate(current);
+            }
+
+            TimeUnit.MILLISECONDS.sleep(backoff);
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    private synchronized void invalidate(TsurugiSession lost) {
+        if (lost == null) {
+            return; // connect failed
+        }
+        if (this.session == lost) {
+            this.session = null;
+            reconnectCount.incrementAndGet();
+        }
+        try {
+            lost.close();
+        } catch (Exception e) {
+            LOG.trace("lost session close error", e);
+        }
+    }
+
+    /**
+     * whether the exception means lost connection (including connection refused while the server is down).
+     *
+     * @param t exception
+     * @return {@code true} if lost connection
+     */
+    public static boolean isLostConnection(Throwable t) {
+        for (; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof ClosedChannelException) {
+                return true;
+            }
+            String message = t.getMessage();
+            if (message != null) {
+                String m = message.toLowerCase(Locale.ROOT);
+                if (m.contains(LOST_CONNECTION) || m.contains(SOCKET_CLOSED)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void close() throws IOException, InterruptedException {
+        var s = this.session;
+        this.session = null;
+        if (s != null) {
+            s.close();
+        }
+    }
+}
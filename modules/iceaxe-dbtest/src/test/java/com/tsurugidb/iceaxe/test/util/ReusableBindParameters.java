@@ -0,0 +1,322 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.tsubakuro.sql.Parameters;
+
+/**
+ * reusable bind parameter holder
+ *
+ * <p>
+ * unlike {@link TgBindParameters}, the values are refilled in place. int/long values are kept in a {@code long[]} (not boxed), and the low parameter of each variable is cached until its value
+ * changes. so an execution creates only the low parameter list, plus one low parameter per changed variable.
+ * </p>
+ * <ul>
+ * <li>define variables with {@code addXxx()}, then use {@link #getSqlNames()} and {@link #getParameterMapping()} to create the statement. the parameter mapping accepts only its own holder.</li>
+ * <li>values are converted when the statement is executed, so they can be refilled after the execute method returns.</li>
+ * <li>not thread-safe. use one holder per thread.</li>
+ * </ul>
+ */
+public class ReusableBindParameters {
+
+    public static ReusableBindParameters of() {
+        return new ReusableBindParameters();
+    }
+
+    private static class ParameterMapping extends TgParameterMapping<ReusableBindParameters> {
+        private final ReusableBindParameters owner;
+        private List<Placeholder> lowPlaceholderList;
+
+        ParameterMapping(ReusableBindParameters owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public List<Placeholder> toLowPlaceholderList() {
+            if (this.lowPlaceholderList == null) {
+                this.lowPlaceholderList = TgParameterMapping.of(owner.variables).toLowPlaceholderList();
+            }
+            return this.lowPlaceholderList;
+        }
+
+        @Override
+        public List<Parameter> toLowParameterList(ReusableBindParameters parameter, IceaxeConvertUtil convertUtil) {
+            if (parameter != owner) {
+                throw new IllegalArgumentException("parameter is not the owner of the mapping");
+            }
+            return parameter.toLowParameterList();
+        }
+    }
+
+    private final ParameterMapping parameterMapping = new ParameterMapping(this);
+    private final TgBindVariables variables = TgBindVariables.of();
+    private final Map<String, Integer> indexMap = new HashMap<>();
+    private String[] names = new String[0];
+    private TgDataType[] types = new TgDataType[0];
+    private boolean[] nulls = new boolean[0];
+    private long[] longValues = new long[0];
+    private Object[] objectValues = new Object[0];
+    private Parameter[] lowParameters = new Parameter[0];
+
+    protected ReusableBindParameters() {
+    }
+
+    public ReusableBindParameters addInt(String name) {
+        addName(name, TgDataType.INT);
+        variables.addInt(name);
+        return this;
+    }
+
+    public ReusableBindParameters addLong(String name) {
+        addName(name, TgDataType.LONG);
+        variables.addLong(name);
+        return this;
+    }
+
+    public ReusableBindParameters addDecimal(String name) {
+        addName(name, TgDataType.DECIMAL);
+        variables.addDecimal(name);
+        return this;
+    }
+
+    public ReusableBindParameters addString(String name) {
+        addName(name, TgDataType.STRING);
+        variables.addString(name);
+        return this;
+    }
+
+    private void addName(String name, TgDataType type) {
+        int index = names.length;
+        if (indexMap.putIfAbsent(name, index) != null) {
+            throw new IllegalArgumentException("duplicate name. name=" + name);
+        }
+        int size = index + 1;
+        this.names = Arrays.copyOf(names, size);
+        names[index] = name;
+        this.types = Arrays.copyOf(types, size);
+        types[index] = type;
+        this.nulls = Arrays.copyOf(nulls, size);
+        nulls[index] = true;
+        this.longValues = Arrays.copyOf(longValues, size);
+        this.objectValues = Arrays.copyOf(objectValues, size);
+        this.lowParameters = Arrays.copyOf(lowParameters, size);
+        parameterMapping.lowPlaceholderList = null;
+    }
+
+    /**
+     * get SQL names
+     *
+     * @return SQL names (e.g. {@code ":foo, :bar"})
+     */
+    public String getSqlNames() {
+        return Arrays.stream(names).map(name -> ":" + name).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * get parameter mapping
+     *
+     * @return parameter mapping
+     */
+    public TgParameterMapping<ReusableBindParameters> getParameterMapping() {
+        return this.parameterMapping;
+    }
+
+    /**
+     * get index of variable
+     *
+     * @param name variable name
+     * @return index
+     */
+    public int indexOf(String name) {
+        var index = indexMap.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("not found name. name=" + name);
+        }
+        return index;
+    }
+
+    private void checkType(int index, TgDataType... expected) {
+        for (var type : expected) {
+            if (types[index] == type) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("type mismatch. name=" + names[index] + ", type=" + types[index]);
+    }
+
+    /**
+     * set value
+     *
+     * @param index index of variable (INT or LONG)
+     * @param value value
+     * @return this
+     */
+    public ReusableBindParameters set(int index, int value) {
+        checkType(index, TgDataType.INT, TgDataType.LONG);
+        return setLong(index, value);
+    }
+
+    /**
+     * set value
+     *
+     * @param index index of variable (LONG)
+     * @param value value
+     * @return this
+     */
+    public ReusableBindParameters set(int index, long value) {
+        checkType(index, TgDataType.LONG);
+        return setLong(index, value);
+    }
+
+    private ReusableBindParameters setLong(int index, long value) {
+        if (nulls[index] || longValues[index] != value) {
+            nulls[index] = false;
+            longValues[index] = value;
+            lowParameters[index] = null;
+        }
+        return this;
+    }
+
+    /**
+     * set value
+     *
+     * @param index index of variable (DECIMAL)
+     * @param value value (null: set null)
+     * @return this
+     */
+    public ReusableBindParameters set(int index, BigDecimal value) {
+        checkType(index, TgDataType.DECIMAL);
+        return setObject(index, value);
+    }
+
+    /**
+     * set value
+     *
+     * @param index index of variable (STRING)
+     * @param value value (null: set null)
+     * @return this
+     */
+    public ReusableBindParameters set(int index, String value) {
+        checkType(index, TgDataType.STRING);
+        return setObject(index, value);
+    }
+
+    private ReusableBindParameters setObject(int index, Object value) {
+        if (value == null) {
+            return setNull(index);
+        }
+        if (nulls[index] || !Objects.equals(objectValues[index], value)) {
+            nulls[index] = false;
+            objectValues[index] = value;
+            lowParameters[index] = null;
+        }
+        return this;
+    }
+
+    /**
+     * set null
+     *
+     * @param index index of variable
+     * @return this
+     */
+    public ReusableBindParameters setNull(int index) {
+        if (!nulls[index]) {
+            nulls[index] = true;
+            objectValues[index] = null;
+            lowParameters[index] = null;
+        }
+        return this;
+    }
+
+    public ReusableBindParameters set(String name, int value) {
+        return set(indexOf(name), value);
+    }
+
+    public ReusableBindParameters set(String name, long value) {
+        return set(indexOf(name), value);
+    }
+
+    public ReusableBindParameters set(String name, BigDecimal value) {
+        return set(indexOf(name), value);
+    }
+
+    public ReusableBindParameters set(String name, String value) {
+        return set(indexOf(name), value);
+    }
+
+    public ReusableBindParameters setNull(String name) {
+        return setNull(indexOf(name));
+    }
+
+    /**
+     * set all values to null
+     *
+     * @return this
+     */
+    public ReusableBindParameters reset() {
+        for (int i = 0; i < names.length; i++) {
+            setNull(i);
+        }
+        return this;
+    }
+
+    List<Parameter> toLowParameterList() {
+        for (int i = 0; i < names.length; i++) {
+            if (lowParameters[i] == null) {
+                lowParameters[i] = toLowParameter(i);
+            }
+        }
+        return List.of(lowParameters);
+    }
+
+    private Parameter toLowParameter(int index) {
+        String name = names[index];
+        if (nulls[index]) {
+            return Parameters.ofNull(name);
+        }
+        switch (types[index]) {
+        case INT:
+            return Parameters.of(name, (int) longValues[index]);
+        case LONG:
+            return Parameters.of(name, longValues[index]);
+        case DECIMAL:
+            return Parameters.of(name, (BigDecimal) objectValues[index]);
+        case STRING:
+            return Parameters.of(name, (String) objectValues[index]);
+        default:
+            throw new AssertionError(types[index]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("ReusableBindParameters{");
+        for (int i = 0; i < names.length; i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+            sb.append(names[i]).append('=');
+            if (nulls[i]) {
+                sb.append("null");
+            } else if (types[i] == TgDataType.INT || types[i] == TgDataType.LONG) {
+                sb.append(longValues[i]);
+            } else {
+                sb.append(objectValues[i]);
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,154 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.tsubakuro.channel.common.connection.wire.impl.Link;
+
+/**
+ * client-side admission controller per session
+ *
+ * <ul>
+ * <li>limits the number of operations (transaction with open results) executed concurrently on one session, so that the response slots of the session ({@link Link#responseBoxSize()}) and the
+ * server-side limits are not exhausted.</li>
+ * <li>requests beyond the limit wait in FIFO order (fair semaphore) instead of failing.</li>
+ * <li>a request which cannot be admitted within the timeout fails with IOException.</li>
+ * <li>opt-in: only operations executed through this controller are counted.</li>
+ * </ul>
+ */
+public class SessionAdmissionController {
+
+    /** default number of permits (less than the server-side limit of concurrent transactions per session) */
+    public static final int DEFAULT_PERMITS = Math.min(200, Link.responseBoxSize());
+
+    @FunctionalInterface
+    public interface SessionAction<R> {
+        R execute(TsurugiSession session) throws IOException, InterruptedException;
+    }
+
+    /**
+     * admission permit. the permit is released by close.
+     */
+    public class Permit implements AutoCloseable {
+        private boolean released = false;
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                semaphore.release();
+            }
+        }
+    }
+
+    private final TsurugiSession session;
+    private final int permits;
+    private final Semaphore semaphore;
+    private long timeoutNanos = TimeUnit.SECONDS.toNanos(20);
+
+    private final AtomicLong admittedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session session
+     */
+    public SessionAdmissionController(TsurugiSession session) {
+        this(session, DEFAULT_PERMITS);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session session
+     * @param permits max number of concurrent operations
+     */
+    public SessionAdmissionController(TsurugiSession session, int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive. permits=" + permits);
+        }
+        this.session = session;
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * set admission timeout.
+     *
+     * @param time timeout
+     * @param unit time unit
+     * @return this
+     */
+    public SessionAdmissionController setTimeout(long time, TimeUnit unit) {
+        this.timeoutNanos = unit.toNanos(time);
+        return this;
+    }
+
+    public TsurugiSession getSession() {
+        return this.session;
+    }
+
+    public int getPermits() {
+        return this.permits;
+    }
+
+    /**
+     * get number of requests waiting for admission (estimate).
+     *
+     * @return number of waiting requests
+     */
+    public int getWaitingCount() {
+        return semaphore.getQueueLength();
+    }
+
+    public long getAdmittedCount() {
+        return admittedCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * acquire permit.
+     *
+     * @return permit
+     * @throws IOException          if not admitted within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Permit acquire() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        if (!semaphore.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            timeoutCount.incrementAndGet();
+            throw new IOException("admission timeout. timeout=" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms, permits=" + permits);
+        }
+        long wait = System.nanoTime() - start;
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        admittedCount.incrementAndGet();
+        return new Permit();
+    }
+
+    /**
+     * execute action with permit. results opened in the action must be closed in the action.
+     *
+     * @param <R>    result type
+     * @param action action
+     * @return result of action
+     * @throws IOException          if not admitted within the timeout, or the action fails
+     * @throws InterruptedException if interrupted
+     */
+    public <R> R execute(SessionAction<R> action) throws IOException, InterruptedException {
+        try (var permit = acquire()) {
+            return action.execute(session);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.tsurugidb.iceaxe.metadata.TsurugiTableListHelper;
+import com.tsurugidb.iceaxe.metadata.TsurugiTableMetadataHelper;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.TableList;
+import com.tsurugidb.tsubakuro.sql.TableMetadata;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * client-side cache of table metadata and table list
+ *
+ * <ul>
+ * <li>installed with {@link TsurugiSession#setTableMetadataHelper(TsurugiTableMetadataHelper)} and {@link TsurugiSession#setTableListHelper(TsurugiTableListHelper)}.</li>
+ * <li>entries expire after TTL. {@link DbTestTableTester#executeDdl(TsurugiSession, String, String)} invalidates the table.</li>
+ * <li>invalidation is session-local. DDL executed by other ways (e.g. {@code tm.executeDdl()}) or from another session is not noticed, and the entry stays until TTL expires or
+ * {@link #invalidate(String)} is called.</li>
+ * <li>a lookup which missed before {@link #invalidate(String)} does not store its (possibly old) result after it (checked by epoch).</li>
+ * <li>only found tables are cached. lookup of a table that does not exist always goes to the server.</li>
+ * </ul>
+ */
+public class TableMetadataCache {
+
+    private static final Map<TsurugiSession, TableMetadataCache> SESSION_MAP = new ConcurrentHashMap<>();
+
+    private static final TsurugiSessionEventListener SESSION_CLOSE_LISTENER = new TsurugiSessionEventListener() {
+        @Override
+        public void closeSession(TsurugiSession session, long timeoutNanos, Throwable occurred) {
+            SESSION_MAP.remove(session);
+        }
+    };
+
+    /**
+     * install cache to session
+     *
+     * @param session session
+     * @param ttl     time to live
+     * @param unit    time unit
+     * @return cache
+     */
+    public static TableMetadataCache install(TsurugiSession session, long ttl, TimeUnit unit) {
+        var cache = new TableMetadataCache(unit.toNanos(ttl));
+        session.setTableMetadataHelper(cache.new CacheTableMetadataHelper());
+        session.setTableListHelper(cache.new CacheTableListHelper());
+        if (SESSION_MAP.put(session, cache) == null) {
+            session.addEventListener(SESSION_CLOSE_LISTENER);
+        }
+        return cache;
+    }
+
+    /**
+     * find cache installed to session
+     *
+     * @param session session
+     * @return cache
+     */
+    public static Optional<TableMetadataCache> find(TsurugiSession session) {
+        return Optional.ofNullable(SESSION_MAP.get(session));
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long expireTime;
+
+        Entry(V value, long expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+
+        boolean isExpired(long now) {
+            return now - expireTime >= 0;
+        }
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Entry<TableMetadata>> metadataMap = new ConcurrentHashMap<>();
+    private volatile Entry<TableList> tableList = null;
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong expireCount = new AtomicLong();
+    private final AtomicLong invalidateCount = new AtomicLong();
+
+    protected TableMetadataCache(long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+    }
+
+    public void invalidate(String tableName) {
+        synchronized (this) {
+            epoch.incrementAndGet();
+            metadataMap.remove(tableName);
+            this.tableList = null;
+        }
+        invalidateCount.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        synchronized (this) {
+            epoch.incrementAndGet();
+            metadataMap.clear();
+            this.tableList = null;
+        }
+        invalidateCount.incrementAndGet();
+    }
+
+    private synchronized void storeIfCurrent(long startEpoch, Runnable storer) {
+        if (epoch.get() == startEpoch) {
+            storer.run();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getExpireCount() {
+        return expireCount.get();
+    }
+
+    public long getInvalidateCount() {
+        return invalidateCount.get();
+    }
+
+    public double getHitRatio() {
+        long hit = getHitCount();
+        long total = hit + getMissCount();
+        return (total == 0) ? 0 : (double) hit / total;
+    }
+
+    private <V> V getValue(Entry<V> entry) {
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            expireCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    private <V> Entry<V> newEntry(V value) {
+        return new Entry<>(value, System.nanoTime() + ttlNanos);
+    }
+
+    private class CacheTableMetadataHelper extends TsurugiTableMetadataHelper {
+        @Override
+        protected FutureResponse<TableMetadata> getLowTableMetadata(SqlClient lowSqlClient, String tableName) throws IOException {
+            var value = getValue(metadataMap.get(tableName));
+            if (value != null) {
+                return new CacheFutureResponse<>(value);
+            }
+
+            long startEpoch = epoch.get();
+            var future = super.getLowTableMetadata(lowSqlClient, tableName);
+            return new CacheFutureResponse<>(future, metadata -> storeIfCurrent(startEpoch, () -> metadataMap.put(tableName, newEntry(metadata))));
+        }
+    }
+
+    private class CacheTableListHelper extends TsurugiTableListHelper {
+        @Override
+        protected FutureResponse<TableList> getLowTableList(SqlClient lowSqlClient) throws IOException {
+            var value = getValue(tableList);
+            if (value != null) {
+                return new CacheFutureResponse<>(value);
+            }
+
+            long startEpoch = epoch.get();
+            var future = super.getLowTableList(lowSqlClient);
+            return new CacheFutureResponse<>(future, list -> storeIfCurrent(startEpoch, () -> tableList = newEntry(list)));
+        }
+    }
+
+    private static class CacheFutureResponse<V> implements FutureResponse<V> {
+        private final FutureResponse<V> owner;
+        private final Consumer<V> storer;
+        private V value;
+
+        /** cache hit */
+        CacheFutureResponse(V value) {
+            this.owner = null;
+            this.storer = null;
+            this.value = value;
+        }
+
+        /** cache miss */
+        CacheFutureResponse(FutureResponse<V> owner, Consumer<V> storer) {
+            this.owner = owner;
+            this.storer = storer;
+        }
+
+        @Override
+        public boolean isDone() {
+            return (owner == null) || owner.isDone();
+        }
+
+        @Override
+        public V get() throws IOException, ServerException, InterruptedException {
+            if (owner == null) {
+                return value;
+            }
+            return store(owner.get());
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException, TimeoutException {
+            if (owner == null) {
+                return value;
+            }
+            return store(owner.get(timeout, unit));
+        }
+
+        private V store(V v) {
+            if (v != null) {
+                storer.accept(v);
+            }
+            this.value = v;
+            return v;
+        }
+
+        @Override
+        public void close() throws IOException, ServerException, InterruptedException {
+            if (owner != null) {
+                owner.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.tsurugidb.iceaxe.test.util;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.tsubakuro.sql.Parameters;
+
+/**
+ * mappings of {@link TestEntity}
+ *
+ * <p>
+ * generated from {@link TestEntity} by {@link com.tsurugidb.iceaxe.test.util.EntityMappingGenerator}. do not edit.
+ * </p>
+ */
+public final class TestEntityMappings {
+
+    /** column names (the order of {@link #RESULT_MAPPING}) */
+    public static final String COLUMNS = "foo, bar, zzz";
+
+    /** bind variables */
+    public static final TgBindVariables VARIABLES = TgBindVariables.of( //
+            TgBindVariable.ofInt("foo"), //
+            TgBindVariable.ofLong("bar"), //
+            TgBindVariable.ofString("zzz"));
+
+    private static final List<Placeholder> LOW_PLACEHOLDER_LIST = TgParameterMapping.of(VARIABLES).toLowPlaceholderList();
+
+    /** parameter mapping */
+    public static final TgParameterMapping<TestEntity> PARAMETER_MAPPING = new ParameterMapping();
+
+    /** result mapping (columns must be selected in the order of {@link #COLUMNS}) */
+    public static final TgResultMapping<TestEntity> RESULT_MAPPING = new ResultMapping();
+
+    private TestEntityMappings() {
+        // don't instantiate
+    }
+
+    private static class ParameterMapping extends TgParameterMapping<TestEntity> {
+
+        @Override
+        public List<Placeholder> toLowPlaceholderList() {
+            return LOW_PLACEHOLDER_LIST;
+        }
+
+        @Override
+        public List<Parameter> toLowParameterList(TestEntity entity, IceaxeConvertUtil convertUtil) {
+            Integer foo = entity.getFoo();
+            Long bar = entity.getBar();
+            String zzz = entity.getZzz();
+            return List.of( //
+                    (foo != null) ? Parameters.of("foo", foo.intValue()) : Parameters.ofNull("foo"), //
+                    (bar != null) ? Parameters.of("bar", bar.longValue()) : Parameters.ofNull("bar"), //
+                    (zzz != null) ? Parameters.of("zzz", zzz) : Parameters.ofNull("zzz"));
+        }
+    }
+
+    private static class ResultMapping extends TgResultMapping<TestEntity> {
+
+        @Override
+        protected TestEntity convert(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+            var entity = new TestEntity();
+            entity.setFoo(record.nextIntOrNull());
+            entity.setBar(record.nextLongOrNull());
+            entity.setZzz(record.nextStringOrNull());
+            return entity;
+        }
+    }
+}